@@ -0,0 +1,104 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.benchmarks;
+
+import org.extendj.ast.BodyDecl;
+import org.extendj.ast.ConstructorDecl;
+import org.extendj.ast.MethodDecl;
+import org.extendj.ast.Program;
+import org.extendj.ast.TypeDecl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates class files for all corpus types, without writing them to disk.
+ * This includes bytecode generation for all methods, stack map frame
+ * computation and StackMapTable emission, and constant pool emission.
+ *
+ * <p>The corpus programs are error checked before each iteration, so the
+ * measured time includes only the backend attributes. The number of generated
+ * methods is printed during setup: with the {@code gc} profiler, the
+ * normalized allocation rate divided by the method count gives the allocation
+ * per generated method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class CodeGenerationBenchmark {
+  private List<TypeDecl> types;
+  private boolean printed = false;
+
+  @Setup(Level.Iteration)
+  public void setup() throws IOException {
+    types = new ArrayList<TypeDecl>();
+    for (Program program : Corpus.programs(true)) {
+      types.addAll(Corpus.classfileTypes(program));
+    }
+    if (!printed) {
+      int methods = 0;
+      for (TypeDecl type : types) {
+        for (BodyDecl decl : type.getBodyDeclList()) {
+          if (decl instanceof ConstructorDecl
+              || (decl instanceof MethodDecl && ((MethodDecl) decl).hasBlock())) {
+            methods += 1;
+          }
+        }
+      }
+      System.out.format("Corpus: %d types, %d methods and constructors%n", types.size(), methods);
+      printed = true;
+    }
+  }
+
+  @Benchmark
+  public void classfileBytes(Blackhole blackhole) {
+    for (TypeDecl type : types) {
+      blackhole.consume(type.classfileBytes());
+    }
+  }
+}
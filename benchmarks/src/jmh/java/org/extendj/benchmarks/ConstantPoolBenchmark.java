@@ -0,0 +1,165 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.benchmarks;
+
+import org.extendj.ast.BodyDecl;
+import org.extendj.ast.ConstantPool;
+import org.extendj.ast.ConstructorDecl;
+import org.extendj.ast.FieldDecl;
+import org.extendj.ast.FieldDeclarator;
+import org.extendj.ast.MethodDecl;
+import org.extendj.ast.Program;
+import org.extendj.ast.TypeDecl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and emits constant pools.
+ *
+ * <p>Each corpus type gets a constant pool with references to the methods and
+ * fields declared in the type and in a few library types. Each reference is
+ * added twice, as class files commonly use the same constant many times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstantPoolBenchmark {
+  private static final String[][] LIBRARY_TYPES = {
+    { "java.lang", "Object" },
+    { "java.lang", "String" },
+    { "java.util", "ArrayList" },
+  };
+
+  /** The types for which constant pools are built. */
+  private List<TypeDecl> types;
+
+  /** The referenced members of each type, in the same order as the types. */
+  private List<List<BodyDecl>> members;
+
+  private ByteArrayOutputStream bytes;
+
+  @Setup
+  public void setup() throws IOException {
+    types = new ArrayList<TypeDecl>();
+    members = new ArrayList<List<BodyDecl>>();
+    for (Program program : Corpus.programs(true)) {
+      List<BodyDecl> library = new ArrayList<BodyDecl>();
+      for (String[] name : LIBRARY_TYPES) {
+        library.addAll(memberDecls(program.lookupType(name[0], name[1])));
+      }
+      for (TypeDecl type : Corpus.classfileTypes(program)) {
+        List<BodyDecl> decls = memberDecls(type);
+        decls.addAll(library);
+        types.add(type);
+        members.add(decls);
+      }
+    }
+    bytes = new ByteArrayOutputStream();
+  }
+
+  @Benchmark
+  public void buildAndEmit(Blackhole blackhole) throws IOException {
+    for (int i = 0; i < types.size(); ++i) {
+      TypeDecl type = types.get(i);
+      ConstantPool pool = new ConstantPool(type);
+      pool.addClass(type.constantPoolName());
+      for (int pass = 0; pass < 2; ++pass) {
+        for (BodyDecl decl : members.get(i)) {
+          addReference(pool, decl);
+        }
+      }
+      bytes.reset();
+      pool.emit(new DataOutputStream(bytes));
+      blackhole.consume(bytes.size());
+    }
+  }
+
+  private static void addReference(ConstantPool pool, BodyDecl decl) {
+    String owner = decl.hostType().constantPoolName();
+    if (decl instanceof MethodDecl) {
+      MethodDecl method = (MethodDecl) decl;
+      pool.addMethodref(owner, method.name(), method.descName());
+      if (method.hasBlock()) {
+        pool.addConstant(method.name());
+      }
+    } else if (decl instanceof ConstructorDecl) {
+      pool.addMethodref(owner, "<init>", ((ConstructorDecl) decl).descName());
+    } else if (decl instanceof FieldDecl) {
+      for (FieldDeclarator field : ((FieldDecl) decl).getDeclaratorList()) {
+        pool.addFieldref(owner, field.name(), field.type());
+      }
+    }
+  }
+
+  /**
+   * The methods, constructors, and fields declared in a type.
+   * The backend attributes used to build the constant pool are computed here,
+   * so that they are not part of the measurement.
+   */
+  private static List<BodyDecl> memberDecls(TypeDecl type) {
+    List<BodyDecl> decls = new ArrayList<BodyDecl>();
+    type.constantPoolName();
+    for (BodyDecl decl : type.getBodyDeclList()) {
+      if (decl instanceof MethodDecl) {
+        ((MethodDecl) decl).descName();
+        decls.add(decl);
+      } else if (decl instanceof ConstructorDecl) {
+        ((ConstructorDecl) decl).descName();
+        decls.add(decl);
+      } else if (decl instanceof FieldDecl) {
+        for (FieldDeclarator field : ((FieldDecl) decl).getDeclaratorList()) {
+          field.type().typeDescriptor();
+        }
+        decls.add(decl);
+      }
+    }
+    return decls;
+  }
+}
@@ -0,0 +1,236 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.benchmarks;
+
+import org.extendj.ExtendJVersion;
+import org.extendj.ast.CompilationUnit;
+import org.extendj.ast.Frontend;
+import org.extendj.ast.Program;
+import org.extendj.ast.TypeDecl;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * The fixed benchmark corpus, a list of regression test directories.
+ *
+ * <p>The test directories are listed in the {@code corpus.txt} resource.  The
+ * regression test root directory is given by the {@code extendj.rtest} system
+ * property, which is set by the benchmark build.
+ */
+final class Corpus {
+  /** A single corpus entry: the source files of one regression test. */
+  static final class Entry {
+    final String name;
+    final List<String> files = new ArrayList<String>();
+    final List<byte[]> sources = new ArrayList<byte[]>();
+
+    Entry(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Builds a new program with the source files of this entry added.
+     * Library types are loaded from the test directory and the boot classpath.
+     */
+    Program program() {
+      List<String> args = new ArrayList<String>();
+      args.add("-nowarn");
+      args.add("-classpath");
+      args.add(new File(files.get(0)).getParent());
+      args.addAll(files);
+      return new ProgramBuilder().build(args);
+    }
+
+    /** Builds a program and checks that it has no compile errors. */
+    Program checkedProgram() {
+      Program program = program();
+      for (CompilationUnit unit : sourceUnits(program)) {
+        if (!unit.errors().isEmpty()) {
+          throw new Error("Corpus entry " + name + " has compile errors: " + unit.errors());
+        }
+      }
+      return program;
+    }
+  }
+
+  private static List<Entry> entries = null;
+
+  private Corpus() {
+  }
+
+  /** The corpus entries. The source files are read on first use. */
+  static synchronized List<Entry> entries() throws IOException {
+    if (entries == null) {
+      File root = new File(System.getProperty("extendj.rtest", "rtest/tests"));
+      if (!root.isDirectory()) {
+        throw new IOException("Regression test directory not found: " + root
+            + " (set the extendj.rtest system property)");
+      }
+      List<Entry> list = new ArrayList<Entry>();
+      for (String name : readLines(Corpus.class.getResourceAsStream("corpus.txt"))) {
+        File dir = new File(root, name);
+        String[] names = dir.list();
+        if (names == null) {
+          throw new IOException("Corpus directory not found: " + dir);
+        }
+        Arrays.sort(names);
+        Entry entry = new Entry(name);
+        for (String file : names) {
+          if (file.endsWith(".java")) {
+            File source = new File(dir, file);
+            entry.files.add(source.getPath());
+            entry.sources.add(readBytes(new java.io.FileInputStream(source)));
+          }
+        }
+        list.add(entry);
+      }
+      entries = list;
+    }
+    return entries;
+  }
+
+  /** Builds one new program for each corpus entry. */
+  static List<Program> programs(boolean checked) throws IOException {
+    List<Program> programs = new ArrayList<Program>();
+    for (Entry entry : entries()) {
+      programs.add(checked ? entry.checkedProgram() : entry.program());
+    }
+    return programs;
+  }
+
+  /** Builds a program without source files. */
+  static Program emptyProgram() {
+    return new ProgramBuilder().build(Arrays.asList("-nowarn"));
+  }
+
+  /** Collects the types to generate class files for in a program. */
+  static Collection<TypeDecl> classfileTypes(Program program) {
+    Collection<TypeDecl> types = new LinkedList<TypeDecl>();
+    for (CompilationUnit unit : sourceUnits(program)) {
+      for (TypeDecl type : unit.getTypeDeclList()) {
+        type.collectClassfileTypes(types);
+      }
+    }
+    return types;
+  }
+
+  /**
+   * The source compilation units of a program. The units are copied to a new
+   * list since library units are added to the program during attribute
+   * evaluation.
+   */
+  static List<CompilationUnit> sourceUnits(Program program) {
+    List<CompilationUnit> units = new ArrayList<CompilationUnit>();
+    for (CompilationUnit unit : program.getCompilationUnitList()) {
+      if (unit.fromSource()) {
+        units.add(unit);
+      }
+    }
+    return units;
+  }
+
+  /**
+   * Reads a class file from the boot classpath of the running JVM.
+   *
+   * @param name binary class name with slashes, e.g. {@code java/lang/String}.
+   */
+  static byte[] jdkClass(String name) throws IOException {
+    InputStream in = ClassLoader.getSystemResourceAsStream(name + ".class");
+    if (in == null) {
+      throw new IOException("JDK class not found: " + name);
+    }
+    return readBytes(in);
+  }
+
+  private static List<String> readLines(InputStream in) throws IOException {
+    List<String> lines = new ArrayList<String>();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (!line.isEmpty() && !line.startsWith("#")) {
+          lines.add(line);
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    return lines;
+  }
+
+  private static byte[] readBytes(InputStream in) throws IOException {
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int len;
+      while ((len = in.read(buffer)) != -1) {
+        out.write(buffer, 0, len);
+      }
+      return out.toByteArray();
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Sets up programs using the regular command-line option handling.
+   */
+  private static class ProgramBuilder extends Frontend {
+    ProgramBuilder() {
+      super("ExtendJ Benchmarks", ExtendJVersion.getVersion());
+    }
+
+    Program build(List<String> args) {
+      initOptions();
+      if (processArgs(args.toArray(new String[args.size()])) != 0) {
+        throw new Error("Invalid benchmark program options: " + args);
+      }
+      try {
+        for (String file : program.options().files()) {
+          program.addSourceFile(file);
+        }
+      } catch (IOException e) {
+        throw new Error(e);
+      }
+      return program;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.benchmarks;
+
+import org.extendj.ast.Program;
+import org.extendj.ast.TypeDecl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up library types by name with {@code Program.lookupType}.
+ *
+ * <p>The {@code cachedLookup} benchmark repeats lookups in one program, where
+ * the results are cached. The {@code coldLookup} benchmark uses a new program
+ * for each invocation, so the types are loaded from the classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupTypeBenchmark {
+  private static final String[][] TYPES = {
+    { "java.lang", "Object" },
+    { "java.lang", "String" },
+    { "java.lang", "Integer" },
+    { "java.lang", "Iterable" },
+    { "java.lang", "Runnable" },
+    { "java.io", "Serializable" },
+    { "java.io", "PrintStream" },
+    { "java.util", "List" },
+    { "java.util", "ArrayList" },
+    { "java.util", "HashMap" },
+    { "java.util", "Map" },
+    { "java.util.function", "Function" },
+    { "java.util.concurrent", "ConcurrentHashMap" },
+    { "java.util", "NoSuchType" },
+    { "no.such.pkg", "Type" },
+  };
+
+  @State(Scope.Benchmark)
+  public static class CachedProgram {
+    Program program;
+
+    @Setup
+    public void setup() {
+      program = Corpus.emptyProgram();
+      for (String[] type : TYPES) {
+        program.lookupType(type[0], type[1]);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ColdProgram {
+    Program program;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+      program = Corpus.emptyProgram();
+    }
+  }
+
+  @Benchmark
+  public void cachedLookup(CachedProgram state, Blackhole blackhole) {
+    lookup(state.program, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 20)
+  public void coldLookup(ColdProgram state, Blackhole blackhole) {
+    lookup(state.program, blackhole);
+  }
+
+  private static void lookup(Program program, Blackhole blackhole) {
+    for (String[] type : TYPES) {
+      TypeDecl decl = program.lookupType(type[0], type[1]);
+      blackhole.consume(decl);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.benchmarks;
+
+import beaver.Parser;
+import beaver.Scanner;
+import beaver.Symbol;
+
+import org.extendj.parser.JavaParser;
+import org.extendj.parser.JavaParser.Terminals;
+import org.extendj.scanner.JavaScanner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses all corpus source files.
+ *
+ * <p>The {@code parse} benchmark includes scanning. The {@code parserLoop}
+ * benchmark replays pre-scanned tokens to measure only the Beaver parser loop
+ * and AST construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+  private List<String> names;
+  private List<byte[]> sources;
+  private List<Symbol[]> tokens;
+
+  @Setup
+  public void setup() throws IOException, Scanner.Exception {
+    names = new ArrayList<String>();
+    sources = new ArrayList<byte[]>();
+    tokens = new ArrayList<Symbol[]>();
+    for (Corpus.Entry entry : Corpus.entries()) {
+      names.addAll(entry.files);
+      sources.addAll(entry.sources);
+    }
+    for (byte[] source : sources) {
+      JavaScanner scanner = new JavaScanner(ScannerBenchmark.reader(source));
+      List<Symbol> list = new ArrayList<Symbol>();
+      while (true) {
+        Symbol token = scanner.nextToken();
+        list.add(token);
+        if (token.getId() == Terminals.EOF) {
+          break;
+        }
+      }
+      tokens.add(list.toArray(new Symbol[list.size()]));
+    }
+  }
+
+  @Benchmark
+  public void parse(Blackhole blackhole) throws IOException, Parser.Exception {
+    for (int i = 0; i < sources.size(); ++i) {
+      blackhole.consume(new JavaParser().parse(
+          new ByteArrayInputStream(sources.get(i)), names.get(i)));
+    }
+  }
+
+  @Benchmark
+  public void parserLoop(Blackhole blackhole) throws IOException, Parser.Exception {
+    for (Symbol[] list : tokens) {
+      blackhole.consume(new JavaParser().parse(new TokenReplay(list)));
+    }
+  }
+
+  /**
+   * Replays scanned tokens. New symbols are created for each token since the
+   * parser stores AST nodes and parser state in the symbols it shifts.
+   */
+  private static class TokenReplay extends Scanner {
+    private final Symbol[] tokens;
+    private int next = 0;
+
+    TokenReplay(Symbol[] tokens) {
+      this.tokens = tokens;
+    }
+
+    @Override
+    public Symbol nextToken() {
+      Symbol token = tokens[next];
+      if (next < tokens.length - 1) {
+        next += 1;
+      }
+      return new Symbol(token.getId(), token.getStart(), token.getEnd(), token.value);
+    }
+  }
+}
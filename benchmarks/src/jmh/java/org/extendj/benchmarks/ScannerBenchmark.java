@@ -0,0 +1,117 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.benchmarks;
+
+import beaver.Scanner;
+import beaver.Symbol;
+
+import org.extendj.parser.JavaParser.Terminals;
+import org.extendj.scanner.JavaScanner;
+import org.extendj.scanner.OriginalScanner;
+import org.extendj.scanner.SourceText;
+import org.extendj.scanner.UnicodeEscapeReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans all corpus source files. The generated scanner is measured both on its
+ * own and through the JavaScanner lookahead wrapper used by the parser, and
+ * with the source text read through a UnicodeEscapeReader for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScannerBenchmark {
+  private List<byte[]> sources;
+
+  @Setup
+  public void setup() throws IOException {
+    sources = new ArrayList<byte[]>();
+    for (Corpus.Entry entry : Corpus.entries()) {
+      sources.addAll(entry.sources);
+    }
+  }
+
+  @Benchmark
+  public void originalScanner(Blackhole blackhole) throws IOException, Scanner.Exception {
+    for (byte[] source : sources) {
+      scan(new OriginalScanner(reader(source)), blackhole);
+    }
+  }
+
+  @Benchmark
+  public void javaScanner(Blackhole blackhole) throws IOException, Scanner.Exception {
+    for (byte[] source : sources) {
+      scan(new JavaScanner(reader(source)), blackhole);
+    }
+  }
+
+  @Benchmark
+  public void escapeReader(Blackhole blackhole) throws IOException, Scanner.Exception {
+    for (byte[] source : sources) {
+      scan(new OriginalScanner(new UnicodeEscapeReader(new ByteArrayInputStream(source))),
+          blackhole);
+    }
+  }
+
+  static SourceText reader(byte[] source) throws IOException {
+    return SourceText.read(new ByteArrayInputStream(source));
+  }
+
+  private static void scan(Scanner scanner, Blackhole blackhole)
+      throws IOException, Scanner.Exception {
+    while (true) {
+      Symbol token = scanner.nextToken();
+      blackhole.consume(token);
+      if (token.getId() == Terminals.EOF) {
+        break;
+      }
+    }
+  }
+}
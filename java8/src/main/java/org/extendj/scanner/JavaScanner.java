@@ -28,7 +28,6 @@
 package org.extendj.scanner;
 
 import java.io.IOException;
-import java.util.LinkedList;
 
 import org.extendj.parser.JavaParser.Terminals;
 import org.extendj.scanner.OriginalScanner;
@@ -43,11 +42,69 @@ import beaver.Symbol;
  */
 public class JavaScanner extends Scanner{
   private OriginalScanner scanner;
-  private LinkedList<Symbol> tokenBuffer = new LinkedList<Symbol>();
+  private final TokenBuffer tokenBuffer = new TokenBuffer();
   private boolean foundLparenConstruct = false;
   private Symbol currentSymbol = null;
   private Symbol lastSymbol = null;
 
+  /**
+   * Lookahead tokens, stored in an array ring buffer.
+   */
+  private static final class TokenBuffer {
+    private Symbol[] tokens = new Symbol[16]; // The length is a power of two.
+    private int head = 0;
+    private int size = 0;
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    int size() {
+      return size;
+    }
+
+    /** @return the token at the given index, counted from the first token */
+    Symbol get(int index) {
+      return tokens[(head + index) & (tokens.length - 1)];
+    }
+
+    Symbol peek() {
+      return tokens[head];
+    }
+
+    Symbol poll() {
+      Symbol token = tokens[head];
+      tokens[head] = null;
+      head = (head + 1) & (tokens.length - 1);
+      size -= 1;
+      return token;
+    }
+
+    void addFirst(Symbol token) {
+      ensureCapacity();
+      head = (head - 1) & (tokens.length - 1);
+      tokens[head] = token;
+      size += 1;
+    }
+
+    void addLast(Symbol token) {
+      ensureCapacity();
+      tokens[(head + size) & (tokens.length - 1)] = token;
+      size += 1;
+    }
+
+    private void ensureCapacity() {
+      if (size == tokens.length) {
+        Symbol[] grown = new Symbol[tokens.length * 2];
+        for (int i = 0; i < size; ++i) {
+          grown[i] = get(i);
+        }
+        tokens = grown;
+        head = 0;
+      }
+    }
+  }
+
   /**
    * Creates a new scanner
    * There is also a java.io.InputStream version of this constructor.
@@ -235,7 +292,8 @@ public class JavaScanner extends Scanner{
    */
   private boolean isIntersectionCast() throws IOException, Exception {
     boolean foundRparen = false;
-    for(Symbol s : tokenBuffer) {
+    for(int i = 0; i < tokenBuffer.size(); ++i) {
+      Symbol s = tokenBuffer.get(i);
       if(foundRparen) {
         return firstInUnary(s);
       }
@@ -290,7 +348,8 @@ public class JavaScanner extends Scanner{
   private boolean isTypeLT() throws IOException, Exception{
     int floatingLT = 1;
     if(!tokenBuffer.isEmpty()) {
-      for(Symbol token : tokenBuffer) {
+      for(int i = 0; i < tokenBuffer.size(); ++i) {
+        Symbol token = tokenBuffer.get(i);
         if(floatingLT == 0) {
           if(token.getId() == Terminals.DOUBLECOLON) {
             return true;
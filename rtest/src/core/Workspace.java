@@ -0,0 +1,258 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * A temporary directory for tests that run ExtendJ several times on files
+ * that change between the runs, such as incremental compilation and compile
+ * server tests.
+ *
+ * <p>ExtendJ and the compiled programs are run in new processes, with the
+ * workspace as working directory.
+ */
+public class Workspace {
+
+  /** The workspace directory. */
+  public final File dir;
+
+  private final String jarPath;
+
+  /** The exit value and output of a process. */
+  public static class Result {
+    public final int exitValue;
+    public final String out;
+    public final String err;
+
+    public Result(int exitValue, String out, String err) {
+      this.exitValue = exitValue;
+      this.out = out;
+      this.err = err;
+    }
+
+    @Override
+    public String toString() {
+      return "exit value " + exitValue + "\nstdout:\n" + out + "\nstderr:\n" + err;
+    }
+  }
+
+  /**
+   * Create an empty workspace in the temporary test directory.
+   * @param name the name of the workspace directory
+   * @param jarPath the path to the ExtendJ Jar file
+   */
+  public Workspace(String name, String jarPath) {
+    this.dir = new File(Util.TEMP_ROOT, name).getAbsoluteFile();
+    this.jarPath = new File(jarPath).getAbsolutePath();
+    if (dir.exists()) {
+      deleteContents(dir);
+    }
+    dir.mkdirs();
+  }
+
+  /** @return the file at the given path relative to the workspace */
+  public File file(String path) {
+    return new File(dir, path);
+  }
+
+  /**
+   * Write a file in the workspace. The modification time of an existing file
+   * is always changed, even if the file system has a coarse timestamp
+   * resolution.
+   */
+  public void write(String path, String content) throws IOException {
+    File file = file(path);
+    long previous = file.isFile() ? file.lastModified() : 0;
+    file.getParentFile().mkdirs();
+    Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+    try {
+      out.write(content);
+    } finally {
+      out.close();
+    }
+    if (previous != 0 && file.lastModified() <= previous) {
+      file.setLastModified(previous + 2000);
+    }
+  }
+
+  /** Create a directory in the workspace. */
+  public void mkdir(String path) {
+    file(path).mkdirs();
+  }
+
+  /** Delete a file in the workspace. */
+  public void delete(String path) {
+    file(path).delete();
+  }
+
+  /**
+   * Create a Jar file containing the files in a directory of the workspace.
+   * The modification time of an existing Jar file is always changed.
+   */
+  public void jar(String jarName, String classesDir) throws IOException {
+    File jar = file(jarName);
+    long previous = jar.isFile() ? jar.lastModified() : 0;
+    JarOutputStream out = new JarOutputStream(new FileOutputStream(jar));
+    try {
+      addToJar(out, file(classesDir), "");
+    } finally {
+      out.close();
+    }
+    if (previous != 0 && jar.lastModified() <= previous) {
+      jar.setLastModified(previous + 2000);
+    }
+  }
+
+  private static void addToJar(JarOutputStream out, File dir, String prefix)
+      throws IOException {
+    File[] files = dir.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (file.isDirectory()) {
+        addToJar(out, file, prefix + file.getName() + "/");
+      } else {
+        out.putNextEntry(new JarEntry(prefix + file.getName()));
+        InputStream in = new FileInputStream(file);
+        try {
+          copy(in, out);
+        } finally {
+          in.close();
+        }
+        out.closeEntry();
+      }
+    }
+  }
+
+  /**
+   * Run ExtendJ with the given arguments. The output directory given by the
+   * -d option is created if it does not exist.
+   */
+  public Result compile(String... args) throws IOException {
+    for (int i = 0; i + 1 < args.length; ++i) {
+      if (args[i].equals("-d")) {
+        file(args[i + 1]).mkdirs();
+      }
+    }
+    List<String> cmd = new ArrayList<String>();
+    Collections.addAll(cmd, "java", "-jar", jarPath);
+    Collections.addAll(cmd, args);
+    return run(cmd);
+  }
+
+  /** Run the main method of a compiled class. */
+  public Result java(String classpath, String mainClass) throws IOException {
+    List<String> cmd = new ArrayList<String>();
+    Collections.addAll(cmd, "java", "-cp", classpath, mainClass);
+    return run(cmd);
+  }
+
+  /**
+   * Start a process running the given main class from the ExtendJ Jar file.
+   * The standard error output of the process is discarded.
+   */
+  public Process start(String mainClass) throws IOException {
+    ProcessBuilder builder = new ProcessBuilder("java", "-cp", jarPath, mainClass);
+    builder.directory(dir);
+    Process process = builder.start();
+    drain(process.getErrorStream(), new ByteArrayOutputStream());
+    return process;
+  }
+
+  private Result run(List<String> cmd) throws IOException {
+    ProcessBuilder builder = new ProcessBuilder(cmd);
+    builder.directory(dir);
+    Process process = builder.start();
+    process.getOutputStream().close();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+    Thread outThread = drain(process.getInputStream(), out);
+    Thread errThread = drain(process.getErrorStream(), err);
+    try {
+      int exitValue = process.waitFor();
+      outThread.join();
+      errThread.join();
+      return new Result(exitValue, out.toString("UTF-8"), err.toString("UTF-8"));
+    } catch (InterruptedException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static Thread drain(final InputStream in, final OutputStream out) {
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        try {
+          copy(in, out);
+        } catch (IOException e) {
+          // The process was terminated.
+        }
+      }
+    };
+    thread.start();
+    return thread;
+  }
+
+  private static void copy(InputStream in, OutputStream out) throws IOException {
+    byte[] buffer = new byte[4096];
+    int count;
+    while ((count = in.read(buffer)) != -1) {
+      out.write(buffer, 0, count);
+    }
+  }
+
+  private static void deleteContents(File dir) {
+    File[] files = dir.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (file.isDirectory()) {
+        deleteContents(file);
+      }
+      file.delete();
+    }
+  }
+}
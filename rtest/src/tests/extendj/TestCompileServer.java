@@ -0,0 +1,132 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package tests.extendj;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import core.Workspace;
+
+/**
+ * Tests the ExtendJ compile server (org.extendj.CompileServer), which keeps
+ * library types loaded between compile requests.
+ */
+public class TestCompileServer {
+
+  private Workspace workspace;
+  private Process server;
+  private PrintWriter requests;
+  private BufferedReader responses;
+
+  @Before
+  public void startServer() throws IOException {
+    workspace = new Workspace("compile_server",
+        System.getProperty("extendj.jar", "extendj.jar"));
+    workspace.mkdir("out");
+    server = workspace.start("org.extendj.CompileServer");
+    requests = new PrintWriter(new OutputStreamWriter(server.getOutputStream(), "UTF-8"));
+    responses = new BufferedReader(new InputStreamReader(server.getInputStream(), "UTF-8"));
+  }
+
+  @After
+  public void stopServer() throws InterruptedException {
+    requests.println(":quit");
+    requests.close();
+    server.waitFor();
+  }
+
+  /** Send a request and return the response line. */
+  private String request(String request) throws IOException {
+    requests.println(request);
+    requests.flush();
+    String line;
+    while ((line = responses.readLine()) != null) {
+      if (line.startsWith("EXIT ")) {
+        return line;
+      }
+    }
+    throw new IOException("The compile server stopped unexpectedly");
+  }
+
+  /** Build lib.jar from the given source code for the class lib.L. */
+  private void buildLibrary(String source) throws IOException {
+    workspace.write("libsrc/lib/L.java", source);
+    Workspace.Result result = workspace.compile("-d", "libclasses", "libsrc/lib/L.java");
+    assertEquals(result.toString(), 0, result.exitValue);
+    workspace.jar("lib.jar", "libclasses");
+  }
+
+  @Test
+  public void reuseLibrary() throws IOException {
+    buildLibrary("package lib;\npublic class L { public static int f() { return 1; } }\n");
+    workspace.write("U.java", "public class U { int x = lib.L.f(); }\n");
+    assertEquals("EXIT 0", request("-classpath lib.jar -d out U.java"));
+    assertEquals("EXIT 0", request("-classpath lib.jar -d out U.java"));
+    assertTrue(workspace.file("out/U.class").isFile());
+  }
+
+  @Test
+  public void replacedJar() throws IOException {
+    buildLibrary("package lib;\npublic class L { public static int f() { return 1; } }\n");
+    workspace.write("U.java", "public class U { int x = lib.L.f(); }\n");
+    assertEquals("EXIT 0", request("-classpath lib.jar -d out U.java"));
+
+    // Replace the Jar file: the server must not use the old version of lib.L.
+    buildLibrary("package lib;\npublic class L { public static int g() { return 2; } }\n");
+    workspace.write("V.java", "public class V { int x = lib.L.g(); }\n");
+    assertEquals("EXIT 0", request("-classpath lib.jar -d out V.java"));
+    assertEquals("EXIT 1", request("-classpath lib.jar -d out U.java"));
+  }
+
+  @Test
+  public void modifiedClassFile() throws IOException {
+    workspace.write("libsrc/lib/L.java",
+        "package lib;\npublic class L { public static int f() { return 1; } }\n");
+    assertEquals(0, workspace.compile("-d", "libclasses", "libsrc/lib/L.java").exitValue);
+    workspace.write("U.java", "public class U { int x = lib.L.f(); }\n");
+    assertEquals("EXIT 0", request("-classpath libclasses -d out U.java"));
+
+    workspace.write("libsrc/lib/L.java",
+        "package lib;\npublic class L { public static int g() { return 2; } }\n");
+    assertEquals(0, workspace.compile("-d", "libclasses", "libsrc/lib/L.java").exitValue);
+    workspace.write("V.java", "public class V { int x = lib.L.g(); }\n");
+    assertEquals("EXIT 0", request("-classpath libclasses -d out V.java"));
+  }
+}
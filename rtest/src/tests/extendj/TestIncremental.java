@@ -0,0 +1,208 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package tests.extendj;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import core.Workspace;
+
+/**
+ * Tests incremental compilation with the -incremental option. Each test
+ * builds a small project, changes one source file, and checks which files
+ * are recompiled in the following build.
+ */
+public class TestIncremental {
+
+  private static final String MAIN =
+      "public class Main { public static void main(String[] args) { System.out.println(A.f()); } }\n";
+
+  private Workspace workspace;
+
+  @Before
+  public void createWorkspace() {
+    workspace = new Workspace("incremental",
+        System.getProperty("extendj.jar", "extendj.jar"));
+  }
+
+  /**
+   * Run an incremental build of all source files in the src directory.
+   * @return the result of the build
+   */
+  private Workspace.Result build() throws IOException {
+    List<String> args = new ArrayList<String>();
+    Collections.addAll(args, "-incremental", "-verbose", "-d", "out", "-classpath", "out");
+    String[] names = workspace.file("src").list();
+    Arrays.sort(names);
+    for (String name : names) {
+      if (name.endsWith(".java")) {
+        args.add("src" + File.separator + name);
+      }
+    }
+    return workspace.compile(args.toArray(new String[args.size()]));
+  }
+
+  /**
+   * @return the number of files compiled in each round of an incremental
+   * build, as reported with the -verbose option
+   */
+  private static List<Integer> rounds(Workspace.Result result) {
+    List<Integer> rounds = new ArrayList<Integer>();
+    String prefix = "Incremental build: compiling ";
+    for (String line : result.out.split("\n")) {
+      line = line.trim();
+      if (line.startsWith(prefix)) {
+        rounds.add(Integer.parseInt(line.substring(prefix.length(), line.indexOf(' ', prefix.length()))));
+      }
+    }
+    return rounds;
+  }
+
+  /** Build successfully and check the number of files compiled in each round. */
+  private void assertBuild(Integer... expected) throws IOException {
+    Workspace.Result result = build();
+    assertEquals(result.toString(), 0, result.exitValue);
+    assertEquals(result.toString(), Arrays.asList(expected), rounds(result));
+  }
+
+  /** Check the output of the Main class. */
+  private void assertOutput(String expected) throws IOException {
+    Workspace.Result result = workspace.java("out", "Main");
+    assertEquals(result.toString(), expected, result.out.trim());
+  }
+
+  @Test
+  public void bodyChange() throws IOException {
+    workspace.write("src/A.java", "public class A { public static int f() { return 1; } }\n");
+    workspace.write("src/Main.java", MAIN);
+    assertBuild(2);
+    assertOutput("1");
+
+    // Only the changed file is compiled.
+    workspace.write("src/A.java", "public class A { public static int f() { return 2; } }\n");
+    assertBuild(1);
+    assertOutput("2");
+
+    // Nothing changed.
+    assertBuild();
+  }
+
+  @Test
+  public void constantChange() throws IOException {
+    workspace.write("src/A.java", "public class A { public static final int C = 1; }\n");
+    workspace.write("src/Main.java",
+        "public class Main { public static void main(String[] args) { System.out.println(A.C); } }\n");
+    assertBuild(2);
+    assertOutput("1");
+
+    // The constant is inlined in Main, so Main is compiled again.
+    workspace.write("src/A.java", "public class A { public static final int C = 2; }\n");
+    assertBuild(1, 1);
+    assertOutput("2");
+  }
+
+  @Test
+  public void signatureChange() throws IOException {
+    workspace.write("src/A.java", "public class A { public static int f() { return 1; } }\n");
+    workspace.write("src/Main.java", MAIN);
+    assertBuild(2);
+
+    // Main no longer compiles against the new signature.
+    workspace.write("src/A.java", "public class A { public static int f(int x) { return x; } }\n");
+    Workspace.Result result = build();
+    assertEquals(result.toString(), 1, result.exitValue);
+    assertEquals(result.toString(), Arrays.asList(1, 1), rounds(result));
+
+    // A was compiled in the first round of the failed build.
+    workspace.write("src/Main.java",
+        "public class Main { public static void main(String[] args) { System.out.println(A.f(3)); } }\n");
+    assertBuild(1);
+    assertOutput("3");
+  }
+
+  @Test
+  public void varargsChange() throws IOException {
+    workspace.write("src/A.java",
+        "public class A { public static int f(int... x) { return x.length; } }\n");
+    workspace.write("src/Main.java",
+        "public class Main { public static void main(String[] args) { System.out.println(A.f(1, 2)); } }\n");
+    assertBuild(2);
+    assertOutput("2");
+
+    // The parameter type is the same, but Main uses a variable arity call.
+    workspace.write("src/A.java",
+        "public class A { public static int f(int[] x) { return x.length; } }\n");
+    Workspace.Result result = build();
+    assertEquals(result.toString(), 1, result.exitValue);
+    assertEquals(result.toString(), Arrays.asList(1, 1), rounds(result));
+  }
+
+  @Test
+  public void addedFile() throws IOException {
+    workspace.write("src/A.java", "public class A { public static int f() { return 1; } }\n");
+    workspace.write("src/Main.java", MAIN);
+    assertBuild(2);
+
+    workspace.write("src/B.java", "public class B { }\n");
+    assertBuild(1);
+    assertTrue(workspace.file("out/B.class").isFile());
+    assertOutput("1");
+  }
+
+  @Test
+  public void deletedFile() throws IOException {
+    workspace.write("src/A.java", "public class A { public static int f() { return 1; } }\n");
+    workspace.write("src/B.java", "public class B { }\n");
+    workspace.write("src/Main.java", MAIN);
+    assertBuild(3);
+
+    // Deleting an unused file only deletes its class files.
+    workspace.delete("src/B.java");
+    assertBuild();
+    assertFalse(workspace.file("out/B.class").exists());
+
+    // Main depends on the deleted file and is compiled again.
+    workspace.delete("src/A.java");
+    Workspace.Result result = build();
+    assertEquals(result.toString(), 1, result.exitValue);
+    assertFalse(workspace.file("out/A.class").exists());
+  }
+}
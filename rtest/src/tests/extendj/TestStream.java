@@ -0,0 +1,205 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package tests.extendj;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import core.Workspace;
+
+/**
+ * Tests that the -Xstream option releases the method bodies and the code
+ * generation state of each compilation unit after its class files have been
+ * generated.
+ *
+ * <p>The compiler is run in this JVM through the ExtendJ Jar file, and the
+ * resulting AST is inspected with reflection. The cached attribute values
+ * are read from the fields generated by JastAdd.
+ */
+public class TestStream {
+
+  private static final String SOURCE =
+      "public class Test {\n"
+      + "  static final int C = 3;\n"
+      + "  static int s;\n"
+      + "  static { s = C * 2; }\n"
+      + "  int i;\n"
+      + "  { i = s + 1; }\n"
+      + "  Test() { i += 1; }\n"
+      + "  int f(final int x) {\n"
+      + "    class Local { int g() { return x; } }\n"
+      + "    return new Local().g() + new Object() { int h() { return i; } }.h();\n"
+      + "  }\n"
+      + "  class Inner { int g() { return f(i); } }\n"
+      + "  @interface A { int value() default C; }\n"
+      + "}\n";
+
+  /** The cached attribute fields that are released for types and members. */
+  private static final String[] CACHE_FIELDS = {
+    "attributes_value",
+    "clinit_attributes_value",
+    "constantPool_value",
+    "bytecodes_ConstantPool_values",
+  };
+
+  private Workspace workspace;
+  private ClassLoader loader;
+
+  @Before
+  public void setUp() throws IOException {
+    String jarPath = System.getProperty("extendj.jar", "extendj.jar");
+    workspace = new Workspace("stream", jarPath);
+    workspace.write("Test.java", SOURCE);
+    workspace.mkdir("out");
+    loader = new URLClassLoader(new URL[] { new File(jarPath).toURI().toURL() }, null);
+  }
+
+  /**
+   * Compile the test source with the given extra option.
+   * @return the compilation unit of the test source
+   */
+  private Object compile(String option) throws Exception {
+    Class<?> compiler = loader.loadClass("org.extendj.JavaCompiler");
+    Method parse = compiler.getMethod("CodeProber_parse", String[].class);
+    String[] args = {
+      option,
+      "-d", workspace.file("out").getPath(),
+      workspace.file("Test.java").getPath(),
+    };
+    Object program = parse.invoke(null, new Object[] { args });
+    assertTrue(workspace.file("out/Test.class").isFile());
+    for (Object unit : (Iterable<?>) call(program, "getCompilationUnitList")) {
+      if ((Boolean) call(unit, "fromSource")) {
+        return unit;
+      }
+    }
+    fail("no compilation unit from source");
+    return null;
+  }
+
+  @Test
+  public void releasedState() throws Exception {
+    Object unit = compile("-Xstream");
+    assertEquals(null, cachedValue(unit, "CompilationUnit_problems_value"));
+    assertEquals(null, cachedValue(unit, "contributorMap_CompilationUnit_problems"));
+
+    Collection<Object> retained = new ArrayList<Object>();
+    collectRetained(unit, retained);
+    assertEquals("retained state: " + retained, 0, retained.size());
+  }
+
+  /**
+   * Check that the test finds cached state when the bodies are not released,
+   * so that renamed cache fields do not go unnoticed.
+   */
+  @Test
+  public void retainedState() throws Exception {
+    Object unit = compile("-nowarn");
+    assertNotNull(cachedValue(unit, "CompilationUnit_problems_value"));
+
+    Collection<Object> retained = new ArrayList<Object>();
+    collectRetained(unit, retained);
+    assertTrue("retained state: " + retained, retained.size() > 0);
+  }
+
+  /**
+   * Find the method bodies and the cached code generation state in the
+   * subtree of the given node.
+   */
+  private void collectRetained(Object node, Collection<Object> retained) throws Exception {
+    Class<?> typeDecl = loader.loadClass("org.extendj.ast.TypeDecl");
+    Class<?> bodyDecl = loader.loadClass("org.extendj.ast.BodyDecl");
+    if (typeDecl.isInstance(node) || bodyDecl.isInstance(node)) {
+      for (String name : CACHE_FIELDS) {
+        if (findField(node.getClass(), name) != null && cachedValue(node, name) != null) {
+          retained.add(node.getClass().getSimpleName() + "." + name);
+        }
+      }
+    }
+    String kind = node.getClass().getSimpleName();
+    if (kind.equals("MethodDecl") || kind.equals("ConstructorDecl")
+        || kind.equals("InstanceInitializer") || kind.equals("StaticInitializer")) {
+      if (kind.equals("MethodDecl") && !(Boolean) call(node, "hasBlock")) {
+        return;
+      }
+      Object block = call(node, "getBlock");
+      if ((Integer) call(block, "getNumStmt") != 0) {
+        retained.add(kind + " body");
+      }
+    }
+    int numChild = (Integer) call(node, "getNumChildNoTransform");
+    for (int i = 0; i < numChild; ++i) {
+      Object child = node.getClass().getMethod("getChildNoTransform", int.class).invoke(node, i);
+      if (child != null) {
+        collectRetained(child, retained);
+      }
+    }
+  }
+
+  private static Object call(Object object, String name) throws Exception {
+    return object.getClass().getMethod(name).invoke(object);
+  }
+
+  /** Read a field generated by JastAdd for a cached attribute. */
+  private static Object cachedValue(Object node, String name) throws Exception {
+    Field field = findField(node.getClass(), name);
+    if (field == null) {
+      fail("no field " + name + " in " + node.getClass().getName());
+    }
+    field.setAccessible(true);
+    return field.get(node);
+  }
+
+  /** Find the most specific field with the given name. */
+  private static Field findField(Class<?> type, String name) {
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      try {
+        return c.getDeclaredField(name);
+      } catch (NoSuchFieldException e) {
+        // Look in the superclass.
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,585 @@
+// Test branch relaxation in a method with more than 32 KB of bytecode. The
+// loop, the conditional branches, the switch and the try statement all have
+// jump targets that are not in range of a two byte offset.
+// .result=EXEC_PASS
+public class Test {
+  static int[] a = { 1, 2, 3, 5, 8, 13, 21, 34 };
+
+  static int big(int n) {
+    int x = 0;
+    int y = 0;
+    for (int i = 0; i < n; i++) {
+      if (i % 3 != 0 && n > 2) {
+        x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8;
+        x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14;
+        x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20;
+        x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26;
+        x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32;
+        x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38;
+        x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44;
+        x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50;
+        x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56;
+        x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62;
+        x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68;
+        x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74;
+        x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80;
+        x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86;
+        x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92;
+        x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98;
+        x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7;
+        x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13;
+        x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19;
+        x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25;
+        x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31;
+        x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37;
+        x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43;
+        x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49;
+        x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55;
+        x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61;
+        x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67;
+        x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73;
+        x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79;
+        x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85;
+        x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91;
+        x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97;
+        x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6;
+        x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12;
+        x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18;
+        x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24;
+        x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30;
+        x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36;
+        x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42;
+        x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48;
+        x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54;
+        x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60;
+        x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66;
+        x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72;
+        x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78;
+        x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84;
+        x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90;
+        x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96;
+        x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5;
+        x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11;
+        x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17;
+        x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23;
+        x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29;
+        x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35;
+        x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41;
+        x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47;
+        x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53;
+        x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59;
+        x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65;
+        x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71;
+        x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77;
+        x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83;
+        x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89;
+        x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95;
+        x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4;
+        x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10;
+        x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16;
+        x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22;
+        x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28;
+        x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34;
+        x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40;
+        x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46;
+        x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52;
+        x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58;
+        x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64;
+        x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70;
+        x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76;
+        x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82;
+        x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88;
+        x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94;
+        x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3;
+        x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9;
+        x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15;
+        x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21;
+        x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27;
+        x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33;
+        x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39;
+        x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45;
+        x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51;
+        x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57;
+        x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63;
+        x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69;
+        x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75;
+        x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81;
+        x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87;
+        x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93;
+        x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99;
+        x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8;
+        x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14;
+        x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20;
+        x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26;
+        x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32;
+        x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38;
+        x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44;
+        x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50;
+        x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56;
+        x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62;
+        x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68;
+        x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74;
+        x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80;
+        x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86;
+        x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92;
+        x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98;
+        x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7;
+        x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13;
+        x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19;
+        x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25;
+        x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31;
+        x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37;
+        x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43;
+        x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49;
+        x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55;
+        x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61;
+        x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67;
+        x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73;
+        x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79;
+        x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85;
+        x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91;
+        x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97;
+        x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6;
+        x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12;
+        x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18;
+        x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24;
+        x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30;
+        x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36;
+        x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42;
+        x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48;
+        x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54;
+        x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60;
+        x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66;
+        x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72;
+        x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78;
+        x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84;
+        x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90;
+        x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96;
+        x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5;
+        x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11;
+        x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17;
+        x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23;
+        x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29;
+        x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35;
+        x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41;
+        x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47;
+        x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53;
+        x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59;
+        x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65;
+        x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71;
+        x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77;
+        x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83;
+        x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89;
+        x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95;
+        x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4;
+        x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10;
+        x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16;
+        x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22;
+        x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28;
+        x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34;
+        x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40;
+        x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46;
+        x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52;
+        x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58;
+        x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64;
+        x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70;
+        x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76;
+        x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82;
+        x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88;
+        x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94;
+        x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3;
+        x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9;
+        x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15;
+        x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21;
+        x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27;
+        x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33;
+        x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39;
+        x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45;
+        x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51;
+        x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57;
+        x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63;
+        x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69;
+        x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75;
+        x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81;
+        x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87;
+        x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93;
+        x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99;
+        x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8;
+        x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14;
+        x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20;
+        x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26;
+        x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32;
+        x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38;
+        x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44;
+        x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50;
+        x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56;
+        x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62;
+        x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68;
+        x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74;
+        x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80;
+        x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86;
+        x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92;
+        x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98;
+        x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7;
+        x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13;
+        x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19;
+        x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25;
+        x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31;
+        x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37;
+        x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43;
+        x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49;
+        x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55;
+        x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61;
+        x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67;
+        x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73;
+        x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79;
+        x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85;
+        x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91;
+        x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97;
+        x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6;
+        x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12;
+        x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18;
+        x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24;
+        x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30;
+        x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36;
+        x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42;
+        x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48;
+        x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54;
+        x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60;
+        x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66;
+        x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72;
+        x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78;
+        x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84;
+        x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90;
+        x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96;
+        x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5;
+        x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11;
+        x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17;
+        x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23;
+        x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29;
+        x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35;
+        x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41;
+        x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47;
+        x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53;
+        x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59;
+        x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65;
+        x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71;
+        x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77;
+        x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83;
+        x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89;
+        x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95;
+        x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4;
+        x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10;
+        x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16;
+        x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22;
+        x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28;
+        x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34;
+        x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40;
+        x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46;
+        x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52;
+        x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58;
+        x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64;
+        x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70;
+        x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76;
+        x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82;
+        x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88;
+        x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94;
+        x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3;
+        x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9;
+        x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15;
+        x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21;
+        x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27;
+        x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33;
+        x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39;
+        x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45;
+        x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51;
+        x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57;
+        x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63;
+        x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69;
+        x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75;
+        x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81;
+        x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87;
+        x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93;
+        x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99;
+        x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8;
+        x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14;
+        x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20;
+        x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26;
+        x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32;
+        x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38;
+        x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44;
+        x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50;
+        x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56;
+        x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62;
+        x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68;
+        x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74;
+        x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80;
+        x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86;
+        x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92;
+        x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98;
+        x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7;
+        x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13;
+        x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19;
+        x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25;
+        x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31;
+        x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37;
+        x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43;
+        x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49;
+        x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55;
+        x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61;
+        x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67;
+        x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73;
+        x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79;
+        x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85;
+        x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91;
+        x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97;
+        x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6;
+        x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12;
+        x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18;
+        x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24;
+        x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30;
+        x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36;
+        x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42;
+        x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48;
+        x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54;
+        x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60;
+        x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66;
+        x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72;
+        x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78;
+        x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84;
+        x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90;
+        x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96;
+        x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5;
+        x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11;
+        x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17;
+        x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23;
+        x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29;
+        x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35;
+        x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41;
+        x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47;
+        x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53;
+        x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59;
+        x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65;
+        x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71;
+        x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77;
+        x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83;
+        x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89;
+        x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95;
+        x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4;
+        x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10;
+        x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16;
+        x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22;
+        x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28;
+        x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34;
+        x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40;
+        x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46;
+        x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52;
+        x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58;
+        x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64;
+        x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70;
+        x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76;
+        x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82;
+        x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88;
+        x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94;
+        x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3;
+        x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9;
+        x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15;
+        x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21;
+        x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27;
+        x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33;
+        x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39;
+        x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45;
+        x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51;
+        x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57;
+        x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63;
+        x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69;
+        x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75;
+        x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81;
+        x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87;
+        x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93;
+        x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99;
+        x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8;
+        x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14;
+        x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20;
+        x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26;
+        x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32;
+        x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38;
+        x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44;
+        x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50;
+        x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56;
+        x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62;
+        x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68;
+        x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74;
+        x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80;
+        x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86;
+        x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92;
+        x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98;
+        x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7;
+        x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13;
+        x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19;
+        x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25;
+        x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31;
+        x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37;
+        x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43;
+        x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49;
+        x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55;
+        x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61;
+        x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67;
+        x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73;
+        x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79;
+        x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85;
+        x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91;
+        x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97;
+        x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6;
+        x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12;
+        x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18;
+        x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24;
+        x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30;
+        x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36;
+        x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42;
+        x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48;
+        x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54;
+        x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60;
+        x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66;
+        x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72;
+        x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78;
+        x += a[i & 7] * 79; x += a[i & 7] * 80;
+      } else {
+        y += i;
+      }
+      switch (i % 4) {
+        case 0:
+          y += a[i & 7] * 14; y += a[i & 7] * 15; y += a[i & 7] * 16; y += a[i & 7] * 17; y += a[i & 7] * 18; y += a[i & 7] * 19;
+          y += a[i & 7] * 20; y += a[i & 7] * 21; y += a[i & 7] * 22; y += a[i & 7] * 23; y += a[i & 7] * 24; y += a[i & 7] * 25;
+          y += a[i & 7] * 26; y += a[i & 7] * 27; y += a[i & 7] * 28; y += a[i & 7] * 29; y += a[i & 7] * 30; y += a[i & 7] * 31;
+          y += a[i & 7] * 32; y += a[i & 7] * 33; y += a[i & 7] * 34; y += a[i & 7] * 35; y += a[i & 7] * 36; y += a[i & 7] * 37;
+          y += a[i & 7] * 38; y += a[i & 7] * 39; y += a[i & 7] * 40; y += a[i & 7] * 41; y += a[i & 7] * 42; y += a[i & 7] * 43;
+          y += a[i & 7] * 44; y += a[i & 7] * 45; y += a[i & 7] * 46; y += a[i & 7] * 47; y += a[i & 7] * 48; y += a[i & 7] * 49;
+          y += a[i & 7] * 50; y += a[i & 7] * 51; y += a[i & 7] * 52; y += a[i & 7] * 53; y += a[i & 7] * 54; y += a[i & 7] * 55;
+          y += a[i & 7] * 56; y += a[i & 7] * 57; y += a[i & 7] * 58; y += a[i & 7] * 59; y += a[i & 7] * 60; y += a[i & 7] * 61;
+          y += a[i & 7] * 62; y += a[i & 7] * 63; y += a[i & 7] * 64; y += a[i & 7] * 65; y += a[i & 7] * 66; y += a[i & 7] * 67;
+          y += a[i & 7] * 68; y += a[i & 7] * 69; y += a[i & 7] * 70; y += a[i & 7] * 71; y += a[i & 7] * 72; y += a[i & 7] * 73;
+          y += a[i & 7] * 74; y += a[i & 7] * 75; y += a[i & 7] * 76; y += a[i & 7] * 77; y += a[i & 7] * 78; y += a[i & 7] * 79;
+          y += a[i & 7] * 80; y += a[i & 7] * 81; y += a[i & 7] * 82; y += a[i & 7] * 83; y += a[i & 7] * 84; y += a[i & 7] * 85;
+          y += a[i & 7] * 86; y += a[i & 7] * 87; y += a[i & 7] * 88; y += a[i & 7] * 89; y += a[i & 7] * 90; y += a[i & 7] * 91;
+          y += a[i & 7] * 92; y += a[i & 7] * 93; y += a[i & 7] * 94; y += a[i & 7] * 95; y += a[i & 7] * 96; y += a[i & 7] * 97;
+          y += a[i & 7] * 98; y += a[i & 7] * 99; y += a[i & 7] * 3; y += a[i & 7] * 4; y += a[i & 7] * 5; y += a[i & 7] * 6;
+          y += a[i & 7] * 7; y += a[i & 7] * 8; y += a[i & 7] * 9; y += a[i & 7] * 10; y += a[i & 7] * 11; y += a[i & 7] * 12;
+          y += a[i & 7] * 13; y += a[i & 7] * 14; y += a[i & 7] * 15; y += a[i & 7] * 16; y += a[i & 7] * 17; y += a[i & 7] * 18;
+          y += a[i & 7] * 19; y += a[i & 7] * 20; y += a[i & 7] * 21; y += a[i & 7] * 22; y += a[i & 7] * 23; y += a[i & 7] * 24;
+          y += a[i & 7] * 25; y += a[i & 7] * 26; y += a[i & 7] * 27; y += a[i & 7] * 28; y += a[i & 7] * 29; y += a[i & 7] * 30;
+          y += a[i & 7] * 31; y += a[i & 7] * 32; y += a[i & 7] * 33; y += a[i & 7] * 34; y += a[i & 7] * 35; y += a[i & 7] * 36;
+          y += a[i & 7] * 37; y += a[i & 7] * 38; y += a[i & 7] * 39; y += a[i & 7] * 40; y += a[i & 7] * 41; y += a[i & 7] * 42;
+          y += a[i & 7] * 43; y += a[i & 7] * 44; y += a[i & 7] * 45; y += a[i & 7] * 46; y += a[i & 7] * 47; y += a[i & 7] * 48;
+          y += a[i & 7] * 49; y += a[i & 7] * 50; y += a[i & 7] * 51; y += a[i & 7] * 52; y += a[i & 7] * 53; y += a[i & 7] * 54;
+          y += a[i & 7] * 55; y += a[i & 7] * 56; y += a[i & 7] * 57; y += a[i & 7] * 58; y += a[i & 7] * 59; y += a[i & 7] * 60;
+          y += a[i & 7] * 61; y += a[i & 7] * 62; y += a[i & 7] * 63; y += a[i & 7] * 64; y += a[i & 7] * 65; y += a[i & 7] * 66;
+          y += a[i & 7] * 67; y += a[i & 7] * 68; y += a[i & 7] * 69; y += a[i & 7] * 70; y += a[i & 7] * 71; y += a[i & 7] * 72;
+          y += a[i & 7] * 73; y += a[i & 7] * 74; y += a[i & 7] * 75; y += a[i & 7] * 76; y += a[i & 7] * 77; y += a[i & 7] * 78;
+          y += a[i & 7] * 79; y += a[i & 7] * 80; y += a[i & 7] * 81; y += a[i & 7] * 82; y += a[i & 7] * 83; y += a[i & 7] * 84;
+          y += a[i & 7] * 85; y += a[i & 7] * 86; y += a[i & 7] * 87; y += a[i & 7] * 88; y += a[i & 7] * 89; y += a[i & 7] * 90;
+          y += a[i & 7] * 91; y += a[i & 7] * 92; y += a[i & 7] * 93; y += a[i & 7] * 94; y += a[i & 7] * 95; y += a[i & 7] * 96;
+          y += a[i & 7] * 97; y += a[i & 7] * 98; y += a[i & 7] * 99; y += a[i & 7] * 3; y += a[i & 7] * 4; y += a[i & 7] * 5;
+          y += a[i & 7] * 6; y += a[i & 7] * 7; y += a[i & 7] * 8; y += a[i & 7] * 9; y += a[i & 7] * 10; y += a[i & 7] * 11;
+          y += a[i & 7] * 12; y += a[i & 7] * 13; y += a[i & 7] * 14; y += a[i & 7] * 15; y += a[i & 7] * 16; y += a[i & 7] * 17;
+          y += a[i & 7] * 18; y += a[i & 7] * 19; y += a[i & 7] * 20; y += a[i & 7] * 21; y += a[i & 7] * 22; y += a[i & 7] * 23;
+          y += a[i & 7] * 24; y += a[i & 7] * 25; y += a[i & 7] * 26; y += a[i & 7] * 27; y += a[i & 7] * 28; y += a[i & 7] * 29;
+          y += a[i & 7] * 30; y += a[i & 7] * 31; y += a[i & 7] * 32; y += a[i & 7] * 33; y += a[i & 7] * 34; y += a[i & 7] * 35;
+          y += a[i & 7] * 36; y += a[i & 7] * 37; y += a[i & 7] * 38; y += a[i & 7] * 39; y += a[i & 7] * 40; y += a[i & 7] * 41;
+          y += a[i & 7] * 42; y += a[i & 7] * 43; y += a[i & 7] * 44; y += a[i & 7] * 45; y += a[i & 7] * 46; y += a[i & 7] * 47;
+          y += a[i & 7] * 48; y += a[i & 7] * 49; y += a[i & 7] * 50; y += a[i & 7] * 51; y += a[i & 7] * 52; y += a[i & 7] * 53;
+          y += a[i & 7] * 54; y += a[i & 7] * 55; y += a[i & 7] * 56; y += a[i & 7] * 57; y += a[i & 7] * 58; y += a[i & 7] * 59;
+          y += a[i & 7] * 60; y += a[i & 7] * 61; y += a[i & 7] * 62; y += a[i & 7] * 63; y += a[i & 7] * 64; y += a[i & 7] * 65;
+          y += a[i & 7] * 66; y += a[i & 7] * 67; y += a[i & 7] * 68; y += a[i & 7] * 69; y += a[i & 7] * 70; y += a[i & 7] * 71;
+          y += a[i & 7] * 72; y += a[i & 7] * 73; y += a[i & 7] * 74; y += a[i & 7] * 75; y += a[i & 7] * 76; y += a[i & 7] * 77;
+          y += a[i & 7] * 78; y += a[i & 7] * 79; y += a[i & 7] * 80; y += a[i & 7] * 81; y += a[i & 7] * 82; y += a[i & 7] * 83;
+          y += a[i & 7] * 84; y += a[i & 7] * 85; y += a[i & 7] * 86; y += a[i & 7] * 87; y += a[i & 7] * 88; y += a[i & 7] * 89;
+          y += a[i & 7] * 90; y += a[i & 7] * 91; y += a[i & 7] * 92; y += a[i & 7] * 93; y += a[i & 7] * 94; y += a[i & 7] * 95;
+          y += a[i & 7] * 96; y += a[i & 7] * 97; y += a[i & 7] * 98; y += a[i & 7] * 99; y += a[i & 7] * 3; y += a[i & 7] * 4;
+          y += a[i & 7] * 5; y += a[i & 7] * 6; y += a[i & 7] * 7; y += a[i & 7] * 8; y += a[i & 7] * 9; y += a[i & 7] * 10;
+          y += a[i & 7] * 11; y += a[i & 7] * 12; y += a[i & 7] * 13; y += a[i & 7] * 14; y += a[i & 7] * 15; y += a[i & 7] * 16;
+          y += a[i & 7] * 17; y += a[i & 7] * 18; y += a[i & 7] * 19; y += a[i & 7] * 20; y += a[i & 7] * 21; y += a[i & 7] * 22;
+          break;
+        case 1:
+          y -= 1;
+          break;
+        default:
+          y ^= x;
+      }
+      try {
+        if (i == 5) {
+          throw new IllegalStateException("i = " + i);
+        }
+        x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31;
+        x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36; x += a[i & 7] * 37;
+        x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42; x += a[i & 7] * 43;
+        x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48; x += a[i & 7] * 49;
+        x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54; x += a[i & 7] * 55;
+        x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60; x += a[i & 7] * 61;
+        x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66; x += a[i & 7] * 67;
+        x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72; x += a[i & 7] * 73;
+        x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78; x += a[i & 7] * 79;
+        x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84; x += a[i & 7] * 85;
+        x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90; x += a[i & 7] * 91;
+        x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96; x += a[i & 7] * 97;
+        x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5; x += a[i & 7] * 6;
+        x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11; x += a[i & 7] * 12;
+        x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17; x += a[i & 7] * 18;
+        x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23; x += a[i & 7] * 24;
+        x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29; x += a[i & 7] * 30;
+        x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35; x += a[i & 7] * 36;
+        x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41; x += a[i & 7] * 42;
+        x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47; x += a[i & 7] * 48;
+        x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53; x += a[i & 7] * 54;
+        x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59; x += a[i & 7] * 60;
+        x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65; x += a[i & 7] * 66;
+        x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71; x += a[i & 7] * 72;
+        x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77; x += a[i & 7] * 78;
+        x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83; x += a[i & 7] * 84;
+        x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89; x += a[i & 7] * 90;
+        x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95; x += a[i & 7] * 96;
+        x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4; x += a[i & 7] * 5;
+        x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10; x += a[i & 7] * 11;
+        x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16; x += a[i & 7] * 17;
+        x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22; x += a[i & 7] * 23;
+        x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28; x += a[i & 7] * 29;
+        x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34; x += a[i & 7] * 35;
+        x += a[i & 7] * 36; x += a[i & 7] * 37; x += a[i & 7] * 38; x += a[i & 7] * 39; x += a[i & 7] * 40; x += a[i & 7] * 41;
+        x += a[i & 7] * 42; x += a[i & 7] * 43; x += a[i & 7] * 44; x += a[i & 7] * 45; x += a[i & 7] * 46; x += a[i & 7] * 47;
+        x += a[i & 7] * 48; x += a[i & 7] * 49; x += a[i & 7] * 50; x += a[i & 7] * 51; x += a[i & 7] * 52; x += a[i & 7] * 53;
+        x += a[i & 7] * 54; x += a[i & 7] * 55; x += a[i & 7] * 56; x += a[i & 7] * 57; x += a[i & 7] * 58; x += a[i & 7] * 59;
+        x += a[i & 7] * 60; x += a[i & 7] * 61; x += a[i & 7] * 62; x += a[i & 7] * 63; x += a[i & 7] * 64; x += a[i & 7] * 65;
+        x += a[i & 7] * 66; x += a[i & 7] * 67; x += a[i & 7] * 68; x += a[i & 7] * 69; x += a[i & 7] * 70; x += a[i & 7] * 71;
+        x += a[i & 7] * 72; x += a[i & 7] * 73; x += a[i & 7] * 74; x += a[i & 7] * 75; x += a[i & 7] * 76; x += a[i & 7] * 77;
+        x += a[i & 7] * 78; x += a[i & 7] * 79; x += a[i & 7] * 80; x += a[i & 7] * 81; x += a[i & 7] * 82; x += a[i & 7] * 83;
+        x += a[i & 7] * 84; x += a[i & 7] * 85; x += a[i & 7] * 86; x += a[i & 7] * 87; x += a[i & 7] * 88; x += a[i & 7] * 89;
+        x += a[i & 7] * 90; x += a[i & 7] * 91; x += a[i & 7] * 92; x += a[i & 7] * 93; x += a[i & 7] * 94; x += a[i & 7] * 95;
+        x += a[i & 7] * 96; x += a[i & 7] * 97; x += a[i & 7] * 98; x += a[i & 7] * 99; x += a[i & 7] * 3; x += a[i & 7] * 4;
+        x += a[i & 7] * 5; x += a[i & 7] * 6; x += a[i & 7] * 7; x += a[i & 7] * 8; x += a[i & 7] * 9; x += a[i & 7] * 10;
+        x += a[i & 7] * 11; x += a[i & 7] * 12; x += a[i & 7] * 13; x += a[i & 7] * 14; x += a[i & 7] * 15; x += a[i & 7] * 16;
+        x += a[i & 7] * 17; x += a[i & 7] * 18; x += a[i & 7] * 19; x += a[i & 7] * 20; x += a[i & 7] * 21; x += a[i & 7] * 22;
+        x += a[i & 7] * 23; x += a[i & 7] * 24; x += a[i & 7] * 25; x += a[i & 7] * 26; x += a[i & 7] * 27; x += a[i & 7] * 28;
+        x += a[i & 7] * 29; x += a[i & 7] * 30; x += a[i & 7] * 31; x += a[i & 7] * 32; x += a[i & 7] * 33; x += a[i & 7] * 34;
+      } catch (IllegalStateException e) {
+        System.out.println("caught " + e.getMessage());
+        y += 7;
+      } finally {
+        y += 3;
+      }
+      if (x < 0 || y > 1000000) {
+        continue;
+      }
+      while (y > 0 && (y & 1) == 0) {
+        y >>= 1;
+      }
+    }
+    return x + y;
+  }
+
+  public static void main(String[] args) {
+    System.out.println(big(0));
+    System.out.println(big(1));
+    System.out.println(big(4));
+    System.out.println(big(12));
+  }
+}
@@ -0,0 +1,31 @@
+// Local variables whose stores are all removed by the bytecode optimizer must
+// not remain in the local variable table.
+// .options=O
+public class Test {
+  static int unused(int x) {
+    int dead = x * 2;
+    long wide = 3L;
+    double d = wide + 1.0;
+    return x;
+  }
+
+  static void shortCircuit(String[] args) {
+    int i;
+    boolean b = (false && (i > 0)) && (i == 0);
+  }
+
+  static void deadStores(int x) {
+    long l = x;
+    double d = l;
+    String s = "" + d;
+  }
+
+  public static void main(String[] args) {
+    int i;
+    boolean b = (false && (i > 0)) && (i == 0);
+    System.out.println(unused(4));
+    shortCircuit(args);
+    deadStores(3);
+    System.out.println("done");
+  }
+}
@@ -0,0 +1,58 @@
+// Code transformed by the bytecode optimizer: iinc folding, dead stores,
+// jump threading and unreachable code.
+// .options=O
+public class Test {
+  static int sum(int n) {
+    int sum = 0;
+    for (int i = 0; i < n; i = i + 1) {
+      sum = sum + i;
+      int j = sum;
+      j = j - 200;
+    }
+    return sum;
+  }
+
+  static String classify(int x) {
+    String result;
+    if (x < 0) {
+      result = "negative";
+    } else if (x == 0) {
+      result = "zero";
+    } else {
+      result = "positive";
+    }
+    return result;
+  }
+
+  static int loop(int[] values) {
+    int count = 0;
+    int i = 0;
+    while (true) {
+      if (i >= values.length) {
+        break;
+      }
+      if (values[i++] > 0) {
+        count += 1;
+        continue;
+      }
+    }
+    return count;
+  }
+
+  static int handler(String s) {
+    int n = -1;
+    try {
+      n = Integer.parseInt(s);
+    } catch (NumberFormatException e) {
+      return n;
+    }
+    return n + 1;
+  }
+
+  public static void main(String[] args) {
+    System.out.println(sum(10));
+    System.out.println(classify(-3) + " " + classify(0) + " " + classify(7));
+    System.out.println(loop(new int[] { 1, -2, 3, 0, 5 }));
+    System.out.println(handler("41") + " " + handler("x"));
+  }
+}
@@ -0,0 +1,47 @@
+import java.util.ArrayList;
+
+public class Lib {
+  public static final int LIMIT = 2 * 3;
+  public static final String NAME = "lib" + LIMIT;
+
+  public enum Color {
+    RED,
+    GREEN {
+      @Override public String label() {
+        return "g" + super.label();
+      }
+    },
+    BLUE;
+
+    public String label() {
+      return name().toLowerCase();
+    }
+  }
+
+  public interface Op {
+    int apply(int x);
+
+    default Op twice() {
+      return x -> apply(apply(x));
+    }
+  }
+
+  public static <T> ArrayList<T> listOf(T a, T b) {
+    ArrayList<T> list = new ArrayList<T>();
+    list.add(a);
+    list.add(b);
+    return list;
+  }
+
+  public class Inner {
+    public int value() {
+      return LIMIT + offset;
+    }
+  }
+
+  protected int offset = 1;
+
+  protected String describe() {
+    return "Lib" + offset;
+  }
+}
@@ -0,0 +1,46 @@
+// Compilation units compiled after Lib.java with -Xstream use its constants,
+// enum, default method, generic method, and inner class after the method
+// bodies of Lib.java have been released.
+// .options=Xstream
+// .source_order=Lib.java,Test.java
+public class Test extends Lib {
+  static String color(Lib.Color color) {
+    switch (color) {
+      case RED:
+        return "r";
+      case GREEN:
+        return color.label();
+      default:
+        return "other";
+    }
+  }
+
+  static String limit(int x) {
+    switch (x) {
+      case Lib.LIMIT:
+        return "limit";
+      default:
+        return "no";
+    }
+  }
+
+  @Override
+  protected String describe() {
+    Runnable r = () -> System.out.println(super.describe());
+    r.run();
+    return "Test" + offset;
+  }
+
+  public static void main(String[] args) {
+    System.out.println(Lib.NAME);
+    System.out.println(limit(6) + " " + limit(5));
+    System.out.println(color(Lib.Color.RED) + color(Lib.Color.GREEN) + color(Lib.Color.BLUE));
+    Lib.Op inc = x -> x + 1;
+    System.out.println(inc.twice().apply(3));
+    System.out.println(Lib.listOf("a", "b"));
+    Test test = new Test();
+    Lib.Inner inner = test.new Inner();
+    System.out.println(inner.value());
+    System.out.println(test.describe());
+  }
+}
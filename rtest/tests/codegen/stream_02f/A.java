@@ -0,0 +1,5 @@
+public class A {
+  public static int twice(int x) {
+    return 2 * x;
+  }
+}
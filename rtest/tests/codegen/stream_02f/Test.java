@@ -0,0 +1,10 @@
+// Errors in a compilation unit compiled after another unit are reported with
+// -Xstream, after the class files of the first unit have been generated.
+// .options=Xstream
+// .result=COMPILE_FAIL
+// .source_order=A.java,Test.java
+public class Test {
+  public static void main(String[] args) {
+    System.out.println(A.twice(argz.length));
+  }
+}
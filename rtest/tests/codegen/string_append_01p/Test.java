@@ -0,0 +1,54 @@
+// Consecutive string appends to the same local variable may be compiled to a
+// single concatenation. The result must be the same as for separate appends,
+// also when an operand is changed by the operands of a following append.
+public class Test {
+  static class Counter {
+    int count;
+
+    public String toString() {
+      return "M" + count;
+    }
+  }
+
+  static int bump(Counter c) {
+    c.count += 1;
+    return 0;
+  }
+
+  static String fail(String s) {
+    throw new RuntimeException(s);
+  }
+
+  public static void main(String[] args) {
+    String s = "s";
+    int i = 1;
+    s += i;
+    s += 'c';
+    s += "lit";
+    s += 2.5;
+    s += i + 1;
+    s += args.length;
+    System.out.println(s);
+
+    Counter m = new Counter();
+    String w = "w";
+    w += m;
+    w += bump(m);
+    System.out.println(w);
+
+    StringBuilder sb = new StringBuilder("x");
+    String u = "u";
+    u += sb;
+    u += sb.append("y").length();
+    System.out.println(u);
+
+    String t = "t";
+    try {
+      t += "a";
+      t += fail("b");
+    } catch (RuntimeException e) {
+      t += e.getMessage();
+    }
+    System.out.println(t);
+  }
+}
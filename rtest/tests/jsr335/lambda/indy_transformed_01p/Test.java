@@ -0,0 +1,52 @@
+// Lambdas in code that is transformed before code generation: calls through
+// accessor methods, super accessors, assert statements and enum constructors.
+// .classpath=@RUNTIME_CLASSES@
+// .options=XindyLambdas
+import static runtime.Test.*;
+
+import java.util.function.*;
+
+public class Test {
+  private static int apply(IntUnaryOperator op, int x) {
+    return op.applyAsInt(x);
+  }
+
+  static class Base {
+    int twice(IntSupplier s) {
+      return 2 * s.getAsInt();
+    }
+  }
+
+  static class Sub extends Base {
+    class Inner {
+      int run(int x) {
+        return Sub.super.twice(() -> x + 1);
+      }
+    }
+  }
+
+  class Inner {
+    int run(int x) {
+      return apply(y -> y * x, 3);
+    }
+  }
+
+  enum E {
+    A(1),
+    B(2);
+
+    final int value;
+
+    E(int x) {
+      IntSupplier s = () -> x * 10;
+      value = s.getAsInt();
+    }
+  }
+
+  public static void main(String[] args) {
+    testEqual(12, new Test().new Inner().run(4));
+    testEqual(10, new Sub().new Inner().run(4));
+    assert apply(x -> x, 1) == 1 : ((Supplier<String>) () -> "message").get();
+    testEqual(30, E.A.value + E.B.value);
+  }
+}
@@ -0,0 +1,41 @@
+// Lambdas passed to a variable arity method are compiled to invokedynamic
+// call sites of lambda methods in the transformed method access.
+// .classpath=@RUNTIME_CLASSES@
+// .options=XindyLambdas
+import static runtime.Test.*;
+
+import java.util.function.IntSupplier;
+
+public class Test {
+  interface StringOp {
+    String apply(String s);
+  }
+
+  static int sum(IntSupplier... suppliers) {
+    int sum = 0;
+    for (IntSupplier supplier : suppliers) {
+      sum += supplier.getAsInt();
+    }
+    return sum;
+  }
+
+  static String join(String sep, StringOp... ops) {
+    StringBuilder buf = new StringBuilder();
+    for (StringOp op : ops) {
+      if (buf.length() > 0) {
+        buf.append(sep);
+      }
+      buf.append(op.apply("x"));
+    }
+    return buf.toString();
+  }
+
+  public static void main(String[] args) {
+    int a = 1;
+    testEqual(1, sum(() -> a));
+    testEqual(6, sum(() -> a, () -> 2, () -> a + 2));
+    testEqual("x:X:xx", join(":", s -> s, String::toUpperCase, s -> s + s));
+    Runnable r = () -> testEqual(3, sum(() -> 1, () -> sum(() -> 2)));
+    r.run();
+  }
+}
@@ -0,0 +1,212 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.StreamTokenizer;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.extendj.ast.PathPart;
+import org.extendj.ast.Program;
+
+/**
+ * A compile server that keeps library types loaded between compilations.
+ *
+ * <p>The server reads compile requests from standard input, one request per
+ * line. A request consists of the same arguments as would be given to
+ * {@link JavaCompiler}, separated by whitespace. Arguments containing
+ * whitespace can be quoted. After each request the server prints a line with
+ * the exit code of the compilation: {@code EXIT <code>}.
+ *
+ * <p>The library compilation units parsed from bytecode are reused between
+ * requests that use the same classpath options. Only the source compilation
+ * units and cached attribute values are discarded after each request, using
+ * {@link Program#flushSourceCache()}. A library compilation unit is parsed
+ * again if its class file was modified. If a Jar file on the classpath is
+ * replaced or modified, all library types are loaded again.
+ *
+ * <p>The following special requests are supported:
+ * <ul>
+ * <li>{@code :stats} prints server statistics.
+ * <li>{@code :quit} stops the server.
+ * </ul>
+ */
+public class CompileServer extends JavaCompiler {
+
+  /** The options that affect the classpath. */
+  private static final List<String> CLASSPATH_OPTIONS = Arrays.asList(
+      "-classpath", "-cp", "-sourcepath", "-bootclasspath", "-extdirs", "--system");
+
+  private String classPathKey = null;
+
+  private int numRequests = 0;
+
+  private long compileTime = 0;
+
+  private int libraryUnitsReused = 0;
+
+  private int libraryUnitsLoaded = 0;
+
+  /**
+   * Entry point for the compile server.
+   * @param args command-line arguments (unused)
+   */
+  public static void main(String args[]) {
+    try {
+      BufferedReader in = new BufferedReader(new InputStreamReader(System.in, "UTF-8"));
+      new CompileServer().serve(in, System.out);
+    } catch (IOException e) {
+      e.printStackTrace(System.err);
+      System.exit(EXIT_SYSTEM_ERROR);
+    }
+  }
+
+  public CompileServer() {
+    super("ExtendJ Compile Server");
+  }
+
+  /**
+   * Handle compile requests until the end of the input or a quit request.
+   */
+  public void serve(BufferedReader in, PrintStream out) throws IOException {
+    String line;
+    while ((line = in.readLine()) != null) {
+      String request = line.trim();
+      if (request.isEmpty()) {
+        continue;
+      } else if (request.equals(":quit")) {
+        return;
+      } else if (request.equals(":stats")) {
+        printServerStatistics(out);
+      } else {
+        int exitCode = runRequest(parseArguments(request));
+        out.println("EXIT " + exitCode);
+      }
+      out.flush();
+    }
+  }
+
+  /**
+   * Run one compilation, reusing the library types from the previous
+   * compilation if the classpath options are unchanged.
+   */
+  public int runRequest(String[] args) {
+    String key = classPathKey(args);
+    if (classPathKey != null) {
+      // The path parts are the same as in the previous compilation if the
+      // options are unchanged, but their content may have changed.
+      key += pathFingerprints(program);
+    }
+    if (!key.equals(classPathKey)) {
+      program = new Program();
+      program.state().reset();
+    } else {
+      program.flushSourceCache();
+    }
+    int reused = program.libraryUnitsReused();
+    int loaded = program.libraryUnitsLoaded();
+    long start = System.nanoTime();
+    int exitCode = run(args);
+    classPathKey = classPathKey(args) + pathFingerprints(program);
+    compileTime += System.nanoTime() - start;
+    numRequests += 1;
+    libraryUnitsReused += program.libraryUnitsReused() - reused;
+    libraryUnitsLoaded += program.libraryUnitsLoaded() - loaded;
+    return exitCode;
+  }
+
+  public void printServerStatistics(PrintStream out) {
+    out.println("requests: " + numRequests);
+    out.println("compileTime: " + compileTime);
+    out.println("libraryUnitsReused: " + libraryUnitsReused);
+    out.println("libraryUnitsLoaded: " + libraryUnitsLoaded);
+  }
+
+  /**
+   * Build a string from the classpath options in the argument list.
+   */
+  private static String classPathKey(String[] args) {
+    StringBuilder key = new StringBuilder();
+    boolean incremental = false;
+    String outputDir = "";
+    for (int i = 0; i < args.length; ++i) {
+      if (CLASSPATH_OPTIONS.contains(args[i]) && i + 1 < args.length) {
+        key.append(args[i]).append('\0').append(args[i + 1]).append('\0');
+        i += 1;
+      } else if (args[i].equals("-d") && i + 1 < args.length) {
+        outputDir = args[i + 1];
+        i += 1;
+      } else if (args[i].equals("-incremental")) {
+        incremental = true;
+      }
+    }
+    if (incremental) {
+      // The output directory is on the classpath of incremental builds.
+      key.append("-incremental").append('\0').append(outputDir).append('\0');
+    }
+    return key.toString();
+  }
+
+  /**
+   * Build a string from the fingerprints of the path parts on the classpath.
+   * The fingerprint of a Jar file includes its size and modification time.
+   */
+  private static String pathFingerprints(Program program) {
+    StringBuilder fingerprints = new StringBuilder();
+    for (PathPart part : program.getClassPath()) {
+      fingerprints.append(part.fingerprint()).append('\0');
+    }
+    return fingerprints.toString();
+  }
+
+  /**
+   * Split a request into arguments, using the same syntax as argument files.
+   */
+  private static String[] parseArguments(String request) throws IOException {
+    List<String> args = new ArrayList<String>();
+    StreamTokenizer tokenizer = new StreamTokenizer(new StringReader(request));
+    tokenizer.resetSyntax();
+    tokenizer.whitespaceChars(' ', ' ');
+    tokenizer.whitespaceChars('\t', '\t');
+    tokenizer.wordChars(33, 255);
+    tokenizer.quoteChar('"');
+    tokenizer.quoteChar('\'');
+    while (tokenizer.nextToken() != StreamTokenizer.TT_EOF) {
+      args.add(tokenizer.sval);
+    }
+    return args.toArray(new String[args.size()]);
+  }
+}
@@ -0,0 +1,385 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.extendj.ast.CompilationUnit;
+import org.extendj.ast.TypeDecl;
+
+/**
+ * Tracks the state of an incremental build.
+ *
+ * <p>The state is persisted in the output directory between compilations. For
+ * each source file the state records a hash of the file content, the
+ * top-level types declared in the file, the top-level types the file depends
+ * on, a fingerprint of the API of the file, and the class files generated for
+ * the file.
+ *
+ * <p>A source file is recompiled if it was modified or if one of its class
+ * files is missing. When the API fingerprint of a recompiled file changes,
+ * the files that depend on one of its types are recompiled in a new round.
+ * When a file is added, the files that depend on a type with the same simple
+ * name as one of its types are also recompiled, since the new type may shadow
+ * a type that was found by an import-on-demand declaration. Unmodified files
+ * are loaded from their class files in the output directory.
+ */
+public class IncrementalBuild {
+
+  /** The name of the state file in the output directory. */
+  public static final String STATE_FILE = ".extendj-incremental";
+
+  private static final String VERSION = "extendj-incremental 2";
+
+  /** The recorded state of a single source file. */
+  private static class Entry {
+    long lastModified;
+    long length;
+    String contentHash = "";
+    String apiHash = "";
+    final Set<String> types = new TreeSet<String>();
+    final Set<String> dependencies = new TreeSet<String>();
+    final Set<String> classFiles = new TreeSet<String>();
+  }
+
+  private final File stateFile;
+
+  private final String optionsKey;
+
+  /** Recorded state, indexed by canonical source file path. */
+  private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+
+  /** Types with changed API since the last call to dependentFiles(). */
+  private final Set<String> changedTypes = new HashSet<String>();
+
+  /** Simple names of types added since the last call to dependentFiles(). */
+  private final Set<String> addedNames = new HashSet<String>();
+
+  /** Files recorded since the last call to dependentFiles(). */
+  private final Set<String> recorded = new HashSet<String>();
+
+  /**
+   * @param stateFile the file where the build state is stored
+   * @param optionsKey the compiler options: the state is discarded if these
+   * are different from the options of the previous build
+   */
+  public IncrementalBuild(File stateFile, String optionsKey) {
+    this.stateFile = stateFile;
+    this.optionsKey = optionsKey;
+  }
+
+  /**
+   * Load the state of the previous build. If the state file is missing or
+   * was written using different options, the state is empty and all files
+   * will be compiled.
+   */
+  public void load() {
+    entries.clear();
+    BufferedReader in = null;
+    try {
+      in = new BufferedReader(new InputStreamReader(new FileInputStream(stateFile), "UTF-8"));
+      if (!VERSION.equals(in.readLine()) || !("options " + optionsKey).equals(in.readLine())) {
+        return;
+      }
+      Entry entry = null;
+      String line;
+      while ((line = in.readLine()) != null) {
+        int space = line.indexOf(' ');
+        if (space == -1) {
+          continue;
+        }
+        String key = line.substring(0, space);
+        String value = line.substring(space + 1);
+        if (key.equals("file")) {
+          entry = new Entry();
+          entries.put(value, entry);
+        } else if (entry == null) {
+          continue;
+        } else if (key.equals("stamp")) {
+          String[] stamp = value.split(" ");
+          entry.lastModified = Long.parseLong(stamp[0]);
+          entry.length = Long.parseLong(stamp[1]);
+        } else if (key.equals("hash")) {
+          entry.contentHash = value;
+        } else if (key.equals("api")) {
+          entry.apiHash = value;
+        } else if (key.equals("type")) {
+          entry.types.add(value);
+        } else if (key.equals("dep")) {
+          entry.dependencies.add(value);
+        } else if (key.equals("class")) {
+          entry.classFiles.add(value);
+        }
+      }
+    } catch (FileNotFoundException e) {
+      // No previous build.
+    } catch (IOException e) {
+      System.err.println("Warning: could not read incremental build state: " + e.getMessage());
+      entries.clear();
+    } catch (NumberFormatException e) {
+      System.err.println("Warning: corrupt incremental build state in " + stateFile);
+      entries.clear();
+    } finally {
+      if (in != null) {
+        try {
+          in.close();
+        } catch (IOException e) {
+          // Ignored.
+        }
+      }
+    }
+  }
+
+  /**
+   * Save the current build state. Dependencies on library types are saved
+   * too, because a type added to the sources can shadow a library type.
+   */
+  public void save() throws IOException {
+    PrintWriter out = new PrintWriter(
+        new OutputStreamWriter(new FileOutputStream(stateFile), "UTF-8"));
+    try {
+      out.println(VERSION);
+      out.println("options " + optionsKey);
+      for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+        Entry entry = mapEntry.getValue();
+        out.println("file " + mapEntry.getKey());
+        out.println("stamp " + entry.lastModified + " " + entry.length);
+        out.println("hash " + entry.contentHash);
+        out.println("api " + entry.apiHash);
+        for (String type : entry.types) {
+          out.println("type " + type);
+        }
+        for (String dep : entry.dependencies) {
+          out.println("dep " + dep);
+        }
+        for (String classFile : entry.classFiles) {
+          out.println("class " + classFile);
+        }
+      }
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Compute the files that need to be compiled in the first round.
+   *
+   * <p>Files that were removed since the last build are forgotten, their class
+   * files are deleted, and the files depending on them are recompiled.
+   *
+   * @param files the source files of the program
+   * @return the files to compile
+   */
+  public Collection<String> filesToCompile(Collection<String> files) throws IOException {
+    Map<String, String> paths = new LinkedHashMap<String, String>();
+    for (String file : files) {
+      paths.put(canonicalPath(file), file);
+    }
+    Collection<String> result = new LinkedHashSet<String>();
+    for (Map.Entry<String, String> path : paths.entrySet()) {
+      Entry entry = entries.get(path.getKey());
+      if (entry == null || isModified(new File(path.getKey()), entry)) {
+        result.add(path.getValue());
+      }
+    }
+    Collection<String> removed = new ArrayList<String>();
+    for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+      if (!paths.containsKey(mapEntry.getKey())) {
+        removed.add(mapEntry.getKey());
+        changedTypes.addAll(mapEntry.getValue().types);
+        deleteClassFiles(mapEntry.getValue().classFiles);
+      }
+    }
+    entries.keySet().removeAll(removed);
+    for (String path : dependentFiles()) {
+      result.add(paths.get(path));
+    }
+    return result;
+  }
+
+  /**
+   * Compute the files that depend on a type whose API changed since the last
+   * call to this method, or on a type with the same simple name as an added
+   * type. Files that were compiled together with the changed types are not
+   * included.
+   *
+   * @return the canonical paths of the dependent files
+   */
+  public Collection<String> dependentFiles() {
+    Collection<String> result = new ArrayList<String>();
+    if (!changedTypes.isEmpty()) {
+      for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+        if (recorded.contains(mapEntry.getKey())) {
+          continue;
+        }
+        for (String dep : mapEntry.getValue().dependencies) {
+          if (changedTypes.contains(dep) || addedNames.contains(simpleName(dep))) {
+            result.add(mapEntry.getKey());
+            break;
+          }
+        }
+      }
+      changedTypes.clear();
+      addedNames.clear();
+    }
+    recorded.clear();
+    return result;
+  }
+
+  /**
+   * Record the state of successfully compiled compilation units. Class files
+   * that are no longer generated for a compilation unit are deleted.
+   */
+  public void record(Collection<CompilationUnit> units) throws IOException {
+    for (CompilationUnit unit : units) {
+      if (!unit.fromSource()) {
+        continue;
+      }
+      String path = canonicalPath(unit.pathName());
+      File file = new File(path);
+      Entry entry = new Entry();
+      entry.lastModified = file.lastModified();
+      entry.length = file.length();
+      entry.contentHash = contentHash(file);
+      entry.apiHash = unit.apiFingerprint();
+      entry.dependencies.addAll(unit.typeDependencies());
+      Collection<TypeDecl> types = new ArrayList<TypeDecl>();
+      for (TypeDecl type : unit.getTypeDeclList()) {
+        entry.types.add(type.fullName());
+        type.collectClassfileTypes(types);
+      }
+      for (TypeDecl type : types) {
+        entry.classFiles.add(type.destinationPath());
+      }
+      recorded.add(path);
+      Entry previous = entries.put(path, entry);
+      if (previous == null) {
+        // A new file: its types may shadow types found by other files.
+        changedTypes.addAll(entry.types);
+        for (String type : entry.types) {
+          addedNames.add(simpleName(type));
+        }
+      } else {
+        if (!previous.apiHash.equals(entry.apiHash)) {
+          changedTypes.addAll(previous.types);
+          changedTypes.addAll(entry.types);
+        }
+        previous.classFiles.removeAll(entry.classFiles);
+        deleteClassFiles(previous.classFiles);
+      }
+    }
+  }
+
+  /**
+   * Forget the state of files that failed to compile, so that they are
+   * compiled again in the next build.
+   */
+  public void forget(Collection<String> files) throws IOException {
+    for (String file : files) {
+      entries.remove(canonicalPath(file));
+    }
+  }
+
+  /**
+   * @return the canonical path of the given source file
+   */
+  public String canonicalPath(String file) throws IOException {
+    return new File(file).getCanonicalPath();
+  }
+
+  private static String simpleName(String type) {
+    return type.substring(type.lastIndexOf('.') + 1);
+  }
+
+  private boolean isModified(File file, Entry entry) throws IOException {
+    for (String classFile : entry.classFiles) {
+      if (!new File(classFile).isFile()) {
+        return true;
+      }
+    }
+    if (file.lastModified() == entry.lastModified && file.length() == entry.length) {
+      return false;
+    }
+    if (contentHash(file).equals(entry.contentHash)) {
+      // Only the timestamp changed.
+      entry.lastModified = file.lastModified();
+      return false;
+    }
+    return true;
+  }
+
+  private static void deleteClassFiles(Collection<String> classFiles) {
+    for (String classFile : classFiles) {
+      new File(classFile).delete();
+    }
+  }
+
+  private static String contentHash(File file) throws IOException {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      InputStream in = new FileInputStream(file);
+      try {
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+          digest.update(buffer, 0, count);
+        }
+      } finally {
+        in.close();
+      }
+      StringBuilder sb = new StringBuilder();
+      for (byte b : digest.digest()) {
+        sb.append(String.format("%02x", b & 0xFF));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new Error(e);
+    }
+  }
+}
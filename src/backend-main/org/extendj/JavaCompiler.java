@@ -31,8 +31,12 @@
 package org.extendj;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 
+import org.extendj.ast.CompilationProfile;
 import org.extendj.ast.CompilationUnit;
 import org.extendj.ast.Frontend;
 import org.extendj.ast.Problem;
@@ -72,6 +76,18 @@ public class JavaCompiler extends Frontend {
 
   private Mode mode = Mode.COMPILE;
 
+  /** The command-line options, excluding source files. */
+  private String optionsKey = "";
+
+  /** The state of the current incremental build, if any. */
+  private IncrementalBuild incremental = null;
+
+  /**
+   * Generate class files for each compilation unit directly after it has been
+   * checked, and release its method bodies afterwards.
+   */
+  private boolean stream = false;
+
   /**
    * Initialize the compiler.
    */
@@ -107,6 +123,73 @@ public class JavaCompiler extends Frontend {
     return run(args, Program.defaultBytecodeReader(), Program.defaultJavaParser());
   }
 
+  /**
+   * Compile the given files. With the -incremental option only the files
+   * affected by changes since the previous build are compiled, in one or more
+   * rounds.
+   */
+  @Override
+  protected int compileFiles(Collection<String> files) {
+    if (mode == Mode.COMPILE && stream) {
+      return compileStreaming(files);
+    }
+    if (mode != Mode.COMPILE || !program.options().hasOption("-incremental")) {
+      return super.compileFiles(files);
+    }
+    File stateFile = new File(program.options().getValueForOption("-d"),
+        IncrementalBuild.STATE_FILE);
+    incremental = new IncrementalBuild(stateFile, optionsKey);
+    try {
+      incremental.load();
+      Collection<String> work = incremental.filesToCompile(files);
+      int result = EXIT_SUCCESS;
+      while (!work.isEmpty()) {
+        if (program.options().verbose()) {
+          System.out.println("Incremental build: compiling " + work.size() + " files");
+        }
+        result = super.compileFiles(work);
+        if (result != EXIT_SUCCESS) {
+          incremental.forget(work);
+          break;
+        }
+        work = new LinkedHashSet<String>(incremental.dependentFiles());
+        if (!work.isEmpty()) {
+          // Compile the dependent files against the updated class files.
+          program.flushSourceCache();
+        }
+      }
+      incremental.save();
+      return result;
+    } catch (IOException e) {
+      System.err.println("Error: incremental build failed: " + e.getMessage());
+      return EXIT_SYSTEM_ERROR;
+    } finally {
+      incremental = null;
+    }
+  }
+
+  /**
+   * Compile the given files with the -Xstream option. The class files of each
+   * compilation unit are generated directly after the unit has been checked,
+   * but they are staged until all compilation units have been checked. If
+   * there were errors no class files are written.
+   */
+  private int compileStreaming(Collection<String> files) {
+    program.stageClassfiles();
+    try {
+      int result = super.compileFiles(files);
+      if (result == EXIT_SUCCESS) {
+        program.commitClassfiles();
+      }
+      return result;
+    } catch (IOException e) {
+      System.err.println("Error: " + e.getMessage());
+      return EXIT_SYSTEM_ERROR;
+    } finally {
+      program.discardClassfiles();
+    }
+  }
+
   @Override
   protected int processCompilationUnit(CompilationUnit unit) {
     switch (mode) {
@@ -123,7 +206,18 @@ public class JavaCompiler extends Frontend {
         }
         return EXIT_SUCCESS;
       default:
-        return super.processCompilationUnit(unit);
+        int result = super.processCompilationUnit(unit);
+        if (mode == Mode.COMPILE && stream && result == EXIT_SUCCESS
+            && unit != null && unit.fromSource()) {
+          long start = System.nanoTime();
+          unit.generateClassfile();
+          unit.releaseBodies();
+          long elapsed = System.nanoTime() - start;
+          program.profile().record(CompilationProfile.Phase.CODE_GEN, elapsed);
+          program.profile().addUnitTime(unit.pathName(),
+              CompilationProfile.Phase.CODE_GEN, elapsed);
+        }
+        return result;
     }
   }
 
@@ -145,6 +239,32 @@ public class JavaCompiler extends Frontend {
     }
   }
 
+  @Override
+  protected void processNoErrors(Collection<CompilationUnit> work) {
+    if (mode == Mode.COMPILE && stream) {
+      // The class files were generated by processCompilationUnit.
+      return;
+    } else if (mode == Mode.COMPILE && numThreads > 1) {
+      long start = System.nanoTime();
+      program.generateClassfiles(work, numThreads);
+      program.profile().addTime(CompilationProfile.Phase.CODE_GEN, System.nanoTime() - start);
+      for (CompilationUnit unit : work) {
+        if (unit.fromSource()) {
+          program.profile().addCount(CompilationProfile.Phase.CODE_GEN, 1);
+        }
+      }
+    } else {
+      super.processNoErrors(work);
+    }
+    if (incremental != null) {
+      try {
+        incremental.record(work);
+      } catch (IOException e) {
+        throw new Error(e);
+      }
+    }
+  }
+
   @Override
   protected void processNoErrors(CompilationUnit unit) {
     switch (mode) {
@@ -171,6 +291,8 @@ public class JavaCompiler extends Frontend {
     super.initOptions();
     program.options().addKeyOption("-XstructuredPrint");
     program.options().addKeyOption("-XparseOnly");
+    program.options().addKeyOption("-XindyLambdas");
+    program.options().addKeyOption("-Xstream");
   }
 
   /**
@@ -178,6 +300,7 @@ public class JavaCompiler extends Frontend {
    */
   @Override
   public int processArgs(String[] args) {
+    mode = Mode.COMPILE;
     int result = super.processArgs(args);
     if (result != 0) {
       return result;
@@ -190,6 +313,27 @@ public class JavaCompiler extends Frontend {
         return EXIT_CONFIG_ERROR;
       }
     }
+    if (program.options().hasOption("-incremental")) {
+      if (!program.options().hasValueForOption("-d")) {
+        System.err.println("Error: -incremental requires an output directory (-d)");
+        return EXIT_CONFIG_ERROR;
+      }
+      Collection<String> options = new ArrayList<String>(Arrays.asList(args));
+      options.removeAll(program.options().files());
+      optionsKey = options.toString();
+    }
+    stream = program.options().hasOption("-Xstream");
+    if (stream) {
+      if (program.options().hasOption("-incremental")) {
+        System.err.println("Error: -Xstream can not be combined with -incremental");
+        return EXIT_CONFIG_ERROR;
+      }
+      if (numThreads > 1) {
+        System.err.println("Warning: -Xstream compiles one compilation unit at a time."
+            + " Using a single thread.");
+        numThreads = 1;
+      }
+    }
     if (program.options().hasOption("-XprettyPrint")) {
       mode = Mode.PRETTY_PRINT;
     } else if (program.options().hasOption("-XdumpTree")) {
@@ -30,8 +30,8 @@
 package org.extendj.ast;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
-import java.util.Collection;
 
 /**
  * Logs local variable and stack type changes in a basic block.
@@ -50,11 +50,12 @@ class BasicBlock {
   int start, end; // Start/end PC.
   int label = -1;
   boolean reachable = false;
-  boolean working = false;
-  Collection<Integer> jumps = new ArrayList<Integer>(); // Jump targets.
-  Collection<BasicBlock> succ = new ArrayList<BasicBlock>(); // Jump targets.
+  int index = -1; // Reverse postorder index, or -1 if unreachable.
+  private int[] jumps = new int[2]; // Jump target labels.
+  private int numJumps = 0;
+  ArrayList<BasicBlock> succ = new ArrayList<BasicBlock>(); // Jump targets.
   // Exception handler targets:
-  Collection<CodeGeneration.ExceptionEntry> excp = new ArrayList<CodeGeneration.ExceptionEntry>();
+  ArrayList<CodeGeneration.ExceptionEntry> excp = new ArrayList<CodeGeneration.ExceptionEntry>();
   int preds = 0; // Predecessors (incoming jumps).
 
   /**
@@ -62,6 +63,9 @@ class BasicBlock {
    */
   StackFrame entryStack = null;
 
+  /** Maximum stack size at block exit. */
+  int exitMaxStack = 0;
+
   private int[] diffs = new int[16];
   private VerificationType[] types = new VerificationType[16];
   int top = 0;
@@ -85,7 +89,24 @@ class BasicBlock {
   }
 
   public void addJump(int label) {
-    jumps.add(label);
+    if (numJumps == jumps.length) {
+      jumps = Arrays.copyOf(jumps, jumps.length * 2);
+    }
+    jumps[numJumps++] = label;
+  }
+
+  /** The number of jump targets of this block. */
+  public int numJumps() {
+    return numJumps;
+  }
+
+  /** The label of a jump target of this block. */
+  public int jump(int index) {
+    return jumps[index];
+  }
+
+  public void clearJumps() {
+    numJumps = 0;
   }
 
   public void connect(BasicBlock target) {
@@ -93,6 +114,31 @@ class BasicBlock {
     target.preds += 1;
   }
 
+  /**
+   * The number of control flow successors of this block: the fallthrough
+   * block, jump targets, and exception handlers.
+   */
+  public int numSuccessors() {
+    return (next != null ? 1 : 0) + succ.size() + excp.size();
+  }
+
+  /**
+   * A control flow successor of this block.
+   * @param index successor index, less than {@link #numSuccessors()}.
+   */
+  public BasicBlock successor(int index) {
+    if (next != null) {
+      if (index == 0) {
+        return next;
+      }
+      index -= 1;
+    }
+    if (index < succ.size()) {
+      return succ.get(index);
+    }
+    return excp.get(index - succ.size()).handler;
+  }
+
   public StackFrame exitStack() {
     return apply(entryStack);
   }
@@ -209,6 +255,16 @@ class BasicBlock {
     }
   }
 
+  /**
+   * Removes a local variable from the log, as if the block did not assign it.
+   */
+  public void clearLocal(int index) {
+    if (index < maxLocals) {
+      locals.set(index, VerificationTypes.TOP);
+      change.clear(index);
+    }
+  }
+
   public void dup() {
     grow();
     if (top >= 1 && diffs[top - 1] == PUSH) {
@@ -35,11 +35,38 @@ import java.io.IOException;
 
 /**
  * Utility class for building a byte array for bytecode generation.
+ *
+ * <p>A released buffer is reused by the next byte array created on the same
+ * thread.
  */
 class ByteArray {
-  private byte[] bytes = new byte[64];
+  private static final ThreadLocal<byte[]> spareBuffer = new ThreadLocal<byte[]>();
+
+  private byte[] bytes;
   private int pos = 0;
 
+  ByteArray() {
+    bytes = spareBuffer.get();
+    if (bytes != null) {
+      spareBuffer.set(null);
+    } else {
+      bytes = new byte[64];
+    }
+  }
+
+  /**
+   * Releases the buffer of this byte array for reuse. The byte array is
+   * empty after this.
+   */
+  void release() {
+    byte[] spare = spareBuffer.get();
+    if (spare == null || spare.length < bytes.length) {
+      spareBuffer.set(bytes);
+    }
+    bytes = new byte[0];
+    pos = 0;
+  }
+
   /**
    * Grow the byte array to fit more bytes if needed.
    * @param num number of bytes to grow
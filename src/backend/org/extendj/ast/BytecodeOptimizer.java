@@ -0,0 +1,991 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.ast;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Optimizes the bytecode of a single method, enabled by the -O option.
+ *
+ * <p>The optimizer works on the basic blocks built by {@link CodeGeneration}
+ * and runs after all code has been generated, but before stack map frames are
+ * computed. It performs these transformations:
+ * <ul>
+ * <li>iinc folding: {@code iload n; iconst c; iadd; istore n} becomes
+ * {@code iinc n c}.
+ * <li>Removal of redundant load/store pairs, such as {@code iload n; istore n}.
+ * <li>Dead store removal: stores to local variables that are not live are
+ * replaced by pops, and pushes followed by pops are removed.
+ * <li>Jump threading: jumps to a goto are redirected to the final target, and
+ * gotos to a return are replaced by the return.
+ * <li>Removal of unreachable blocks and of gotos to the following block.
+ * </ul>
+ *
+ * <p>The stack and local variable logs of the basic blocks are kept
+ * consistent with the optimized code, so that the stack map frames computed
+ * afterwards are correct. Removed stores are also removed from the block logs,
+ * which is why only the single store to a local variable in a block can be
+ * removed.
+ *
+ * <p>Methods containing jsr or ret instructions are left unchanged. Jumps
+ * whose offsets no longer fit in two bytes are widened afterwards, by the
+ * branch relaxation in {@link CodeGeneration}.
+ */
+class BytecodeOptimizer {
+
+  /** A decoded instruction. */
+  static class Insn {
+    final int pc;
+    final int length;
+    final BasicBlock bb;
+
+    /** The bytes of this instruction, replaced when the instruction is rewritten. */
+    byte[] code;
+
+    boolean removed = false;
+
+    Insn(int pc, BasicBlock bb, byte[] code) {
+      this.pc = pc;
+      this.length = code.length;
+      this.bb = bb;
+      this.code = code;
+    }
+
+    byte opcode() {
+      return code[0];
+    }
+
+    boolean isSwitch() {
+      return code[0] == Bytecode.TABLESWITCH || code[0] == Bytecode.LOOKUPSWITCH;
+    }
+
+    boolean isGoto() {
+      return code[0] == Bytecode.GOTO || code[0] == Bytecode.GOTO_W;
+    }
+
+    boolean isReturn() {
+      return code[0] >= Bytecode.IRETURN && code[0] <= Bytecode.RETURN;
+    }
+  }
+
+  // Local variable instruction kinds, in opcode order.
+  private static final int INT = 0;
+  private static final int LONG = 1;
+  private static final int FLOAT = 2;
+  private static final int DOUBLE = 3;
+  private static final int REFERENCE = 4;
+
+  private final CodeGeneration gen;
+  private final byte[] code;
+
+  /** Instructions of each basic block, in block order. */
+  private final Map<BasicBlock, ArrayList<Insn>> blockInsns =
+      new IdentityHashMap<BasicBlock, ArrayList<Insn>>();
+
+  /** Instructions by start PC. */
+  private final Map<Integer, Insn> insnAt = new HashMap<Integer, Insn>();
+
+  /** Basic blocks by start PC. */
+  private final Map<Integer, BasicBlock> blockAt = new HashMap<Integer, BasicBlock>();
+
+  /** Jumps by the PC of the jump instruction. */
+  private final Map<Integer, Collection<CodeGeneration.Jump>> jumpsAt =
+      new HashMap<Integer, Collection<CodeGeneration.Jump>>();
+
+  /** Jump target PCs (before relocation) after jump threading. */
+  private final Map<CodeGeneration.Jump, Integer> target =
+      new IdentityHashMap<CodeGeneration.Jump, Integer>();
+
+  /** Jumps removed together with their jump instruction. */
+  private final Collection<CodeGeneration.Jump> removedJumps = new HashSet<CodeGeneration.Jump>();
+
+  /** Local variables of removed stores, to be removed from the block logs. */
+  private final Map<BasicBlock, BitSet> removedStores = new IdentityHashMap<BasicBlock, BitSet>();
+
+  /** New fallthrough blocks for blocks whose final goto was removed. */
+  private final Map<BasicBlock, BasicBlock> fallthrough =
+      new IdentityHashMap<BasicBlock, BasicBlock>();
+
+  BytecodeOptimizer(CodeGeneration gen) {
+    this.gen = gen;
+    this.code = gen.bytes.toArray();
+  }
+
+  /**
+   * Runs the optimizations.
+   */
+  void optimize() {
+    if (gen.blocks.isEmpty() || gen.block.start != code.length || !decode()) {
+      // Unexpected code shape: leave the code unchanged.
+      return;
+    }
+    for (BasicBlock bb : gen.blocks) {
+      foldIinc(blockInsns.get(bb));
+      removeLoadStorePairs(blockInsns.get(bb));
+    }
+    removeDeadStores();
+    for (BasicBlock bb : gen.blocks) {
+      removePushPopPairs(blockInsns.get(bb));
+    }
+    threadJumps();
+    removeUnreachableBlocks();
+    removeGotosToNext();
+    relocate();
+  }
+
+  /**
+   * Decodes the instructions of all basic blocks.
+   *
+   * @return {@code false} if the code could not be decoded
+   */
+  private boolean decode() {
+    for (BasicBlock bb : gen.blocks) {
+      ArrayList<Insn> insns = new ArrayList<Insn>();
+      int pc = bb.start;
+      while (pc < bb.end) {
+        int length = length(pc);
+        if (length <= 0 || pc + length > bb.end) {
+          return false;
+        }
+        byte[] bytes = new byte[length];
+        System.arraycopy(code, pc, bytes, 0, length);
+        Insn insn = new Insn(pc, bb, bytes);
+        insns.add(insn);
+        insnAt.put(pc, insn);
+        pc += length;
+      }
+      blockInsns.put(bb, insns);
+      blockAt.put(bb.start, bb);
+    }
+    for (CodeGeneration.Jump jump : gen.jumps) {
+      if (!insnAt.containsKey(jump.offset) || !blockAt.containsKey(jump.target)) {
+        return false;
+      }
+      Collection<CodeGeneration.Jump> jumps = jumpsAt.get(jump.offset);
+      if (jumps == null) {
+        jumps = new ArrayList<CodeGeneration.Jump>();
+        jumpsAt.put(jump.offset, jumps);
+      }
+      jumps.add(jump);
+      target.put(jump, jump.target);
+    }
+    return true;
+  }
+
+  /**
+   * Computes the length of the instruction at the given PC.
+   *
+   * @return the instruction length, or 0 for unsupported instructions
+   */
+  private int length(int pc) {
+    switch (code[pc]) {
+      case Bytecode.TABLESWITCH: {
+        int pos = (pc + 4) & ~3;
+        int low = int4(code, pos + 4);
+        int high = int4(code, pos + 8);
+        return pos + 12 + (high - low + 1) * 4 - pc;
+      }
+      case Bytecode.LOOKUPSWITCH: {
+        int pos = (pc + 4) & ~3;
+        int npairs = int4(code, pos + 4);
+        return pos + 8 + npairs * 8 - pc;
+      }
+      case Bytecode.JSR:
+      case Bytecode.JSR_W:
+      case Bytecode.RET:
+        return 0;
+      case Bytecode.WIDE:
+        if (code[pc + 1] == Bytecode.RET) {
+          return 0;
+        }
+        return code[pc + 1] == Bytecode.IINC ? 6 : 4;
+      default:
+        return BytecodeDebug.stepBytecode(code, pc);
+    }
+  }
+
+  /**
+   * Replaces {@code iload n; <const c>; iadd; istore n} by {@code iinc n c}.
+   * The variants with {@code isub}, and with a {@code dup} before the
+   * constant or the store, are also folded.
+   */
+  private void foldIinc(ArrayList<Insn> insns) {
+    for (int i = 0; i + 3 < insns.size(); ++i) {
+      Insn load = insns.get(i);
+      if (loadKind(load) != INT) {
+        continue;
+      }
+      int local = localIndex(load);
+      int j = i + 1;
+      boolean dupBefore = insns.get(j).opcode() == Bytecode.DUP;
+      if (dupBefore) {
+        j += 1;
+      }
+      if (j + 2 >= insns.size() || !isIntConstant(insns.get(j))) {
+        continue;
+      }
+      int value = intConstant(insns.get(j));
+      byte op = insns.get(j + 1).opcode();
+      if (op == Bytecode.ISUB) {
+        value = -value;
+      } else if (op != Bytecode.IADD) {
+        continue;
+      }
+      if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+        continue;
+      }
+      int k = j + 2;
+      boolean dupAfter = !dupBefore && k < insns.size() && insns.get(k).opcode() == Bytecode.DUP;
+      if (dupAfter) {
+        k += 1;
+      }
+      if (k >= insns.size()) {
+        continue;
+      }
+      Insn store = insns.get(k);
+      if (storeKind(store) != INT || localIndex(store) != local) {
+        continue;
+      }
+      for (int n = i; n <= k; ++n) {
+        insns.get(n).removed = true;
+      }
+      if (dupBefore) {
+        // iload n; iinc n c
+        load.removed = false;
+        store.removed = false;
+        store.code = iinc(local, value);
+      } else if (dupAfter) {
+        // iinc n c; iload n
+        load.removed = false;
+        store.removed = false;
+        byte[] loadCode = load.code;
+        load.code = iinc(local, value);
+        store.code = loadCode;
+      } else {
+        load.removed = false;
+        load.code = iinc(local, value);
+      }
+      compact(insns);
+    }
+  }
+
+  /**
+   * Removes {@code xload n; xstore n} pairs. The local variable log of the
+   * block is still correct since the type of the local variable does not
+   * change.
+   */
+  private void removeLoadStorePairs(ArrayList<Insn> insns) {
+    for (int i = 0; i + 1 < insns.size(); ++i) {
+      Insn load = insns.get(i);
+      Insn store = insns.get(i + 1);
+      int kind = loadKind(load);
+      if (kind != -1 && kind == storeKind(store) && localIndex(load) == localIndex(store)
+          && insns.size() > 2) {
+        load.removed = true;
+        store.removed = true;
+        compact(insns);
+        i -= 1;
+      }
+    }
+  }
+
+  /**
+   * Removes stores to local variables that are not live after the store.
+   * A store directly followed by a load of the stored variable is removed
+   * together with the load if the variable is not live after the load.
+   * Other dead stores are replaced by a pop.
+   */
+  private void removeDeadStores() {
+    Map<BasicBlock, BitSet> liveIn = liveness();
+    for (BasicBlock bb : gen.blocks) {
+      ArrayList<Insn> insns = blockInsns.get(bb);
+      // Count the stores to each local variable in this block.
+      Map<Integer, Integer> stores = new HashMap<Integer, Integer>();
+      for (Insn insn : insns) {
+        int kind = storeKind(insn);
+        if (kind != -1) {
+          for (int n = 0; n < size(kind); ++n) {
+            Integer count = stores.get(localIndex(insn) + n);
+            stores.put(localIndex(insn) + n, count == null ? 1 : count + 1);
+          }
+        }
+      }
+      BitSet handlerLive = handlerLive(bb, liveIn);
+      BitSet live = liveOut(bb, liveIn);
+      live.or(handlerLive);
+      // Scan the block backwards, tracking the live variables after each instruction.
+      Map<Insn, BitSet> liveAfter = new IdentityHashMap<Insn, BitSet>();
+      for (int i = insns.size() - 1; i >= 0; --i) {
+        Insn insn = insns.get(i);
+        liveAfter.put(insn, (BitSet) live.clone());
+        int kind = storeKind(insn);
+        if (kind != -1 && insns.size() > 1) {
+          int local = localIndex(insn);
+          boolean single = local != 0;
+          for (int n = 0; n < size(kind); ++n) {
+            single &= stores.get(local + n) == 1;
+          }
+          if (single && i + 1 < insns.size() && insns.size() > 2
+              && loadKind(insns.get(i + 1)) == kind
+              && localIndex(insns.get(i + 1)) == local
+              && !liveAfter.get(insns.get(i + 1)).get(local)) {
+            // xstore n; xload n
+            insn.removed = true;
+            insns.get(i + 1).removed = true;
+            removeStore(bb, local, kind);
+            live = liveAfter.get(insns.get(i + 1));
+            insns.remove(i + 1);
+            insns.remove(i);
+            continue;
+          } else if (single && !live.get(local)) {
+            removeStore(bb, local, kind);
+            insn.code = new byte[] { size(kind) == 2 ? Bytecode.POP2 : Bytecode.POP };
+          }
+        } else if (insn.opcode() == Bytecode.IINC && !live.get(localIndex(insn))
+            && insns.size() > 1) {
+          // The local variable is still an int, so the log is unchanged.
+          insn.removed = true;
+          insns.remove(i);
+          continue;
+        }
+        transfer(insn, live);
+        live.or(handlerLive);
+      }
+    }
+  }
+
+  /** Records a store to be removed from the local variable log of a block. */
+  private void removeStore(BasicBlock bb, int local, int kind) {
+    BitSet locals = removedStores.get(bb);
+    if (locals == null) {
+      locals = new BitSet();
+      removedStores.put(bb, locals);
+    }
+    locals.set(local, local + size(kind));
+  }
+
+  /**
+   * Removes pushes without side effects directly followed by a pop.
+   */
+  private void removePushPopPairs(ArrayList<Insn> insns) {
+    for (int i = 0; i + 1 < insns.size(); ++i) {
+      Insn push = insns.get(i);
+      Insn pop = insns.get(i + 1);
+      int size = pureStackPush(push);
+      if (size > 0 && insns.size() > 2
+          && ((size == 1 && pop.opcode() == Bytecode.POP)
+              || (size == 2 && pop.opcode() == Bytecode.POP2))) {
+        push.removed = true;
+        pop.removed = true;
+        compact(insns);
+        i = Math.max(-1, i - 2);
+      }
+    }
+  }
+
+  /**
+   * Computes the live local variables at the start of each basic block.
+   */
+  private Map<BasicBlock, BitSet> liveness() {
+    Map<BasicBlock, BitSet> liveIn = new IdentityHashMap<BasicBlock, BitSet>();
+    for (BasicBlock bb : gen.blocks) {
+      liveIn.put(bb, new BitSet());
+    }
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int b = gen.blocks.size() - 1; b >= 0; --b) {
+        BasicBlock bb = gen.blocks.get(b);
+        BitSet live = liveOut(bb, liveIn);
+        BitSet handlerLive = handlerLive(bb, liveIn);
+        live.or(handlerLive);
+        ArrayList<Insn> insns = blockInsns.get(bb);
+        for (int i = insns.size() - 1; i >= 0; --i) {
+          transfer(insns.get(i), live);
+          live.or(handlerLive);
+        }
+        if (!live.equals(liveIn.get(bb))) {
+          liveIn.put(bb, live);
+          changed = true;
+        }
+      }
+    }
+    return liveIn;
+  }
+
+  /**
+   * Updates the live variables from after to before the given instruction.
+   */
+  private void transfer(Insn insn, BitSet live) {
+    int kind = storeKind(insn);
+    if (kind != -1) {
+      int local = localIndex(insn);
+      live.clear(local, local + size(kind));
+      return;
+    }
+    kind = loadKind(insn);
+    if (kind != -1) {
+      int local = localIndex(insn);
+      live.set(local, local + size(kind));
+    } else if (insn.opcode() == Bytecode.IINC
+        || (insn.opcode() == Bytecode.WIDE && insn.code[1] == Bytecode.IINC)) {
+      live.set(localIndex(insn));
+    }
+  }
+
+  /** The live variables at the end of a basic block. */
+  private BitSet liveOut(BasicBlock bb, Map<BasicBlock, BitSet> liveIn) {
+    BitSet live = new BitSet();
+    if (bb.next != null && liveIn.containsKey(bb.next)) {
+      live.or(liveIn.get(bb.next));
+    }
+    for (BasicBlock succ : successors(bb)) {
+      live.or(liveIn.get(succ));
+    }
+    return live;
+  }
+
+  /** The variables live at the start of exception handlers covering a block. */
+  private BitSet handlerLive(BasicBlock bb, Map<BasicBlock, BitSet> liveIn) {
+    BitSet live = new BitSet();
+    for (BasicBlock handler : handlers(bb, false)) {
+      live.or(liveIn.get(handler));
+    }
+    return live;
+  }
+
+  /** The targets of the jumps in a basic block. */
+  private Collection<BasicBlock> successors(BasicBlock bb) {
+    Collection<BasicBlock> succ = new ArrayList<BasicBlock>();
+    for (Insn insn : blockInsns.get(bb)) {
+      Collection<CodeGeneration.Jump> jumps = jumpsAt.get(insn.pc);
+      if (jumps != null) {
+        for (CodeGeneration.Jump jump : jumps) {
+          if (!removedJumps.contains(jump)) {
+            succ.add(blockAt.get(target.get(jump)));
+          }
+        }
+      }
+    }
+    return succ;
+  }
+
+  /**
+   * The exception handlers of a basic block.
+   *
+   * @param contained only include handlers of exception ranges containing
+   * the whole block, as is done when computing stack frames
+   */
+  private Collection<BasicBlock> handlers(BasicBlock bb, boolean contained) {
+    Collection<BasicBlock> handlers = new ArrayList<BasicBlock>();
+    for (CodeGeneration.ExceptionEntry e : gen.exceptions) {
+      boolean covers = contained
+          ? bb.start >= e.start_pc && bb.end <= e.end_pc
+          : bb.start < e.end_pc && bb.end > e.start_pc;
+      if (covers) {
+        handlers.add(blockAt.get(gen.addressOf(e.handler_lbl)));
+      }
+    }
+    return handlers;
+  }
+
+  /**
+   * Redirects jumps to a goto to the final target of the goto, and replaces
+   * gotos to a return by the return instruction.
+   */
+  private void threadJumps() {
+    for (CodeGeneration.Jump jump : gen.jumps) {
+      int pc = target.get(jump);
+      Collection<Integer> visited = new HashSet<Integer>();
+      while (visited.add(pc)) {
+        Insn insn = singleInsn(blockAt.get(pc));
+        if (insn == null || !insn.isGoto()) {
+          break;
+        }
+        pc = target.get(jumpsAt.get(insn.pc).iterator().next());
+      }
+      target.put(jump, pc);
+    }
+    for (CodeGeneration.Jump jump : gen.jumps) {
+      Insn insn = insnAt.get(jump.offset);
+      Insn targetInsn = singleInsn(blockAt.get(target.get(jump)));
+      if (insn.isGoto() && targetInsn != null && targetInsn.isReturn()) {
+        insn.code = new byte[] { targetInsn.opcode() };
+        removedJumps.add(jump);
+      }
+    }
+  }
+
+  /**
+   * Removes blocks that are not reachable from the entry block.
+   */
+  private void removeUnreachableBlocks() {
+    Collection<BasicBlock> reachable = new HashSet<BasicBlock>();
+    ArrayList<BasicBlock> worklist = new ArrayList<BasicBlock>();
+    reachable.add(gen.entry);
+    worklist.add(gen.entry);
+    while (!worklist.isEmpty()) {
+      BasicBlock bb = worklist.remove(worklist.size() - 1);
+      Collection<BasicBlock> succ = successors(bb);
+      if (bb.next != null && !endsAbruptly(bb)) {
+        succ.add(bb.next);
+      }
+      succ.addAll(handlers(bb, false));
+      for (BasicBlock next : succ) {
+        if (blockInsns.containsKey(next) && reachable.add(next)) {
+          worklist.add(next);
+        }
+      }
+    }
+    for (BasicBlock bb : gen.blocks) {
+      if (!reachable.contains(bb)) {
+        for (Insn insn : blockInsns.get(bb)) {
+          insn.removed = true;
+          removeJumps(insn);
+        }
+        blockInsns.get(bb).clear();
+      }
+    }
+  }
+
+  /**
+   * Removes gotos to the directly following block. The block containing the
+   * goto falls through to the following block instead.
+   */
+  private void removeGotosToNext() {
+    Collection<Integer> targets = new HashSet<Integer>();
+    for (CodeGeneration.Jump jump : gen.jumps) {
+      if (!removedJumps.contains(jump)) {
+        targets.add(target.get(jump));
+      }
+    }
+    for (CodeGeneration.ExceptionEntry e : gen.exceptions) {
+      targets.add(gen.addressOf(e.handler_lbl));
+    }
+    BasicBlock following = null;
+    for (int b = gen.blocks.size() - 1; b >= 0; --b) {
+      BasicBlock bb = gen.blocks.get(b);
+      ArrayList<Insn> insns = blockInsns.get(bb);
+      if (!insns.isEmpty() && following != null) {
+        Insn last = insns.get(insns.size() - 1);
+        boolean empties = insns.size() == 1;
+        if (last.isGoto() && blockAt.get(target.get(jumpsAt.get(last.pc).iterator().next()))
+            == following && (!empties || (bb != gen.entry && !targets.contains(bb.start)))) {
+          last.removed = true;
+          removeJumps(last);
+          insns.remove(insns.size() - 1);
+          fallthrough.put(bb, following);
+        }
+      }
+      if (!insns.isEmpty()) {
+        following = bb;
+      }
+    }
+  }
+
+  /**
+   * Lays out the remaining instructions and updates jumps, labels, basic
+   * blocks, exception ranges and debug tables to the new code positions.
+   */
+  private void relocate() {
+    int[] pcMap = new int[code.length + 1];
+    ByteArray bytes = new ByteArray();
+    Map<Integer, Integer> switchTable = new HashMap<Integer, Integer>();
+    int pending = 0;
+    for (BasicBlock bb : gen.blocks) {
+      for (int pc = bb.start; pc < bb.end; ) {
+        Insn insn = insnAt.get(pc);
+        int next = pc + insn.length;
+        if (!insn.removed) {
+          int newPc = bytes.pos();
+          for (int i = pending; i < pc; ++i) {
+            pcMap[i] = newPc;
+          }
+          if (insn.isSwitch()) {
+            // Re-align the switch table.
+            int table = ((pc + 4) & ~3) - pc;
+            bytes.add(insn.code[0]);
+            while (bytes.pos() % 4 != 0) {
+              bytes.add(Bytecode.NOP);
+            }
+            switchTable.put(pc, bytes.pos() - newPc - table);
+            for (int i = table; i < insn.code.length; ++i) {
+              bytes.add(insn.code[i]);
+            }
+          } else {
+            for (byte b : insn.code) {
+              bytes.add(b);
+            }
+          }
+          for (int i = pc; i < next; ++i) {
+            pcMap[i] = newPc;
+          }
+          pending = next;
+        }
+        pc = next;
+      }
+    }
+    for (int i = pending; i <= code.length; ++i) {
+      pcMap[i] = bytes.pos();
+    }
+    byte[] newCode = bytes.toArray();
+
+    // Compute the new jump offsets.
+    ArrayList<CodeGeneration.Jump> jumps = new ArrayList<CodeGeneration.Jump>();
+    for (CodeGeneration.Jump jump : gen.jumps) {
+      if (removedJumps.contains(jump) || insnAt.get(jump.offset).removed) {
+        continue;
+      }
+      int loc = jump.loc - jump.offset;
+      Integer shift = switchTable.get(jump.offset);
+      if (shift != null) {
+        loc += shift;
+      }
+      int offset = pcMap[jump.offset];
+      int pc = pcMap[target.get(jump)];
+      int diff = pc - offset;
+      if (jump.wide) {
+        setAddress32(newCode, offset + loc, diff);
+      } else if (fitsShortOffset(diff)) {
+        setAddress(newCode, offset + loc, diff);
+      }
+      // Short jumps that do not fit are widened by branch relaxation.
+      jumps.add(jump);
+    }
+
+    // Update the code generation state.
+    Map<CodeGeneration.Jump, BasicBlock> targetBlock =
+        new IdentityHashMap<CodeGeneration.Jump, BasicBlock>();
+    for (CodeGeneration.Jump jump : jumps) {
+      targetBlock.put(jump, blockAt.get(target.get(jump)));
+      int loc = jump.loc - jump.offset;
+      Integer shift = switchTable.get(jump.offset);
+      if (shift != null) {
+        loc += shift;
+      }
+      jump.offset = pcMap[jump.offset];
+      jump.loc = jump.offset + loc;
+      jump.target = pcMap[target.get(jump)];
+    }
+    gen.jumps.clear();
+    gen.jumps.addAll(jumps);
+    gen.bytes.setPos(0);
+    for (byte b : newCode) {
+      gen.bytes.add(b);
+    }
+
+    for (Map.Entry<BasicBlock, BitSet> entry : removedStores.entrySet()) {
+      BitSet locals = entry.getValue();
+      for (int i = locals.nextSetBit(0); i >= 0; i = locals.nextSetBit(i + 1)) {
+        entry.getKey().clearLocal(i);
+      }
+    }
+
+    Iterator<BasicBlock> blockIter = gen.blocks.iterator();
+    while (blockIter.hasNext()) {
+      BasicBlock bb = blockIter.next();
+      if (blockInsns.get(bb).isEmpty()) {
+        blockIter.remove();
+        continue;
+      }
+      bb.start = pcMap[bb.start];
+      bb.end = pcMap[bb.end];
+      bb.clearJumps();
+      if (fallthrough.containsKey(bb)) {
+        bb.setNext(fallthrough.get(bb));
+      } else if (bb.next != null) {
+        // Skip blocks emptied by removing a goto.
+        while (fallthrough.containsKey(bb.next) && blockInsns.get(bb.next).isEmpty()) {
+          bb.setNext(fallthrough.get(bb.next));
+        }
+      }
+    }
+    for (CodeGeneration.Jump jump : jumps) {
+      jump.bb.addJump(targetBlock.get(jump).label);
+    }
+    gen.block.start = newCode.length;
+
+    gen.labels.relocate(pcMap);
+
+    Iterator<CodeGeneration.ExceptionEntry> excIter = gen.exceptions.iterator();
+    while (excIter.hasNext()) {
+      CodeGeneration.ExceptionEntry e = excIter.next();
+      e.start_pc = pcMap[e.start_pc];
+      e.end_pc = pcMap[e.end_pc];
+      if (e.start_pc >= e.end_pc) {
+        excIter.remove();
+      }
+    }
+
+    // Only the last line number entry is kept for each position.
+    Map<Integer, CodeGeneration.LineNumberEntry> lines =
+        new LinkedHashMap<Integer, CodeGeneration.LineNumberEntry>();
+    for (CodeGeneration.LineNumberEntry e : gen.lineNumberTable) {
+      e.start_pc = pcMap[e.start_pc];
+      if (e.start_pc < newCode.length) {
+        lines.put(e.start_pc, e);
+      }
+    }
+    gen.lineNumberTable.clear();
+    gen.lineNumberTable.addAll(lines.values());
+
+    // Variables that are no longer accessed are removed from the local
+    // variable table: they have no value, and their slots are not counted
+    // in max_locals if all stores to them were removed.
+    BitSet accessed = accessedLocals();
+    Iterator<CodeGeneration.LocalVariableEntry> varIter = gen.localVariableTable.iterator();
+    while (varIter.hasNext()) {
+      CodeGeneration.LocalVariableEntry e = varIter.next();
+      int end = pcMap[Math.min(e.start_pc + e.length, code.length)];
+      e.start_pc = pcMap[e.start_pc];
+      e.length = end - e.start_pc;
+      if (e.length <= 0 || !accessed.get(e.index)) {
+        varIter.remove();
+      }
+    }
+  }
+
+  /**
+   * The local variables that are parameters or are accessed by the remaining
+   * instructions.
+   */
+  private BitSet accessedLocals() {
+    BitSet accessed = new BitSet();
+    accessed.set(0, gen.entry.entryStack.maxLocals());
+    for (BasicBlock bb : gen.blocks) {
+      for (Insn insn : blockInsns.get(bb)) {
+        if (insn.removed) {
+          continue;
+        }
+        int kind = loadKind(insn);
+        if (kind == -1) {
+          kind = storeKind(insn);
+        }
+        if (kind != -1) {
+          accessed.set(localIndex(insn), localIndex(insn) + size(kind));
+        } else if (insn.opcode() == Bytecode.IINC
+            || (insn.opcode() == Bytecode.WIDE && insn.code[1] == Bytecode.IINC)) {
+          accessed.set(localIndex(insn));
+        }
+      }
+    }
+    return accessed;
+  }
+
+  /** Removes the jumps of a removed or rewritten jump instruction. */
+  private void removeJumps(Insn insn) {
+    Collection<CodeGeneration.Jump> jumps = jumpsAt.get(insn.pc);
+    if (jumps != null) {
+      removedJumps.addAll(jumps);
+    }
+  }
+
+  /** Removes instructions marked as removed from an instruction list. */
+  private static void compact(ArrayList<Insn> insns) {
+    Iterator<Insn> iter = insns.iterator();
+    while (iter.hasNext()) {
+      if (iter.next().removed) {
+        iter.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns the only instruction of a basic block, or {@code null} if the
+   * block does not have exactly one instruction.
+   */
+  private Insn singleInsn(BasicBlock bb) {
+    ArrayList<Insn> insns = blockInsns.get(bb);
+    return insns != null && insns.size() == 1 ? insns.get(0) : null;
+  }
+
+  /** Checks if a block can not fall through to the next block. */
+  private boolean endsAbruptly(BasicBlock bb) {
+    ArrayList<Insn> insns = blockInsns.get(bb);
+    if (insns.isEmpty()) {
+      return false;
+    }
+    Insn last = insns.get(insns.size() - 1);
+    return last.isGoto() || last.isReturn() || last.isSwitch()
+        || last.opcode() == Bytecode.ATHROW;
+  }
+
+  private static int int4(byte[] code, int pos) {
+    return (code[pos] & 0xff) << 24 | (code[pos + 1] & 0xff) << 16
+        | (code[pos + 2] & 0xff) << 8 | (code[pos + 3] & 0xff);
+  }
+
+  private static boolean fitsShortOffset(int offset) {
+    return offset >= Short.MIN_VALUE && offset <= Short.MAX_VALUE;
+  }
+
+  private static void setAddress(byte[] code, int pos, int offset) {
+    code[pos] = (byte) (offset >> 8 & 0xff);
+    code[pos + 1] = (byte) (offset & 0xff);
+  }
+
+  private static void setAddress32(byte[] code, int pos, int offset) {
+    code[pos] = (byte) (offset >> 24 & 0xff);
+    code[pos + 1] = (byte) (offset >> 16 & 0xff);
+    code[pos + 2] = (byte) (offset >> 8 & 0xff);
+    code[pos + 3] = (byte) (offset & 0xff);
+  }
+
+  /** The number of local variable slots of an instruction kind. */
+  private static int size(int kind) {
+    return kind == LONG || kind == DOUBLE ? 2 : 1;
+  }
+
+  /**
+   * @return the kind of a local variable load, or -1 if the instruction is
+   * not a load
+   */
+  private static int loadKind(Insn insn) {
+    int op = insn.code[0] & 0xff;
+    if (op == (Bytecode.WIDE & 0xff)) {
+      op = insn.code[1] & 0xff;
+    }
+    if (op >= Bytecode.ILOAD && op <= Bytecode.ALOAD) {
+      return op - Bytecode.ILOAD;
+    }
+    if (op >= Bytecode.ILOAD_0 && op <= Bytecode.ALOAD_3) {
+      return (op - Bytecode.ILOAD_0) / 4;
+    }
+    return -1;
+  }
+
+  /**
+   * @return the kind of a local variable store, or -1 if the instruction is
+   * not a store
+   */
+  private static int storeKind(Insn insn) {
+    int op = insn.code[0] & 0xff;
+    if (op == (Bytecode.WIDE & 0xff)) {
+      op = insn.code[1] & 0xff;
+    }
+    if (op >= Bytecode.ISTORE && op <= Bytecode.ASTORE) {
+      return op - Bytecode.ISTORE;
+    }
+    if (op >= Bytecode.ISTORE_0 && op <= Bytecode.ASTORE_3) {
+      return (op - Bytecode.ISTORE_0) / 4;
+    }
+    return -1;
+  }
+
+  /** The local variable index of a load, store or iinc instruction. */
+  private static int localIndex(Insn insn) {
+    int op = insn.code[0] & 0xff;
+    if (op == (Bytecode.WIDE & 0xff)) {
+      return (insn.code[2] & 0xff) << 8 | (insn.code[3] & 0xff);
+    }
+    if (op >= Bytecode.ILOAD_0 && op <= Bytecode.ALOAD_3) {
+      return (op - Bytecode.ILOAD_0) % 4;
+    }
+    if (op >= Bytecode.ISTORE_0 && op <= Bytecode.ASTORE_3) {
+      return (op - Bytecode.ISTORE_0) % 4;
+    }
+    return insn.code[1] & 0xff;
+  }
+
+  private static boolean isIntConstant(Insn insn) {
+    byte op = insn.opcode();
+    return (op >= Bytecode.ICONST_M1 && op <= Bytecode.ICONST_5)
+        || op == Bytecode.BIPUSH || op == Bytecode.SIPUSH;
+  }
+
+  private static int intConstant(Insn insn) {
+    switch (insn.opcode()) {
+      case Bytecode.BIPUSH:
+        return insn.code[1];
+      case Bytecode.SIPUSH:
+        return (short) ((insn.code[1] & 0xff) << 8 | (insn.code[2] & 0xff));
+      default:
+        return insn.opcode() - Bytecode.ICONST_0;
+    }
+  }
+
+  /**
+   * @return the number of stack words pushed by an instruction without side
+   * effects that only pushes a value, or 0 for other instructions
+   */
+  private static int pureStackPush(Insn insn) {
+    int kind = loadKind(insn);
+    if (kind != -1) {
+      return size(kind);
+    }
+    switch (insn.opcode()) {
+      case Bytecode.ACONST_NULL:
+      case Bytecode.ICONST_M1:
+      case Bytecode.ICONST_0:
+      case Bytecode.ICONST_1:
+      case Bytecode.ICONST_2:
+      case Bytecode.ICONST_3:
+      case Bytecode.ICONST_4:
+      case Bytecode.ICONST_5:
+      case Bytecode.FCONST_0:
+      case Bytecode.FCONST_1:
+      case Bytecode.FCONST_2:
+      case Bytecode.BIPUSH:
+      case Bytecode.SIPUSH:
+      case Bytecode.DUP:
+        return 1;
+      case Bytecode.LCONST_0:
+      case Bytecode.LCONST_1:
+      case Bytecode.DCONST_0:
+      case Bytecode.DCONST_1:
+      case Bytecode.LDC2_W:
+      case Bytecode.DUP2:
+        return 2;
+      default:
+        return 0;
+    }
+  }
+
+  /** Encodes an iinc instruction. */
+  private static byte[] iinc(int local, int value) {
+    if (local < 256 && value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+      return new byte[] { Bytecode.IINC, (byte) local, (byte) value };
+    } else {
+      return new byte[] {
+        Bytecode.WIDE, Bytecode.IINC,
+        (byte) (local >> 8), (byte) local,
+        (byte) (value >> 8), (byte) value
+      };
+    }
+  }
+}
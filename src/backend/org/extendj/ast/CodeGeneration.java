@@ -31,13 +31,12 @@
 package org.extendj.ast;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Map;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -54,10 +53,9 @@ public class CodeGeneration {
       System.getProperty("extendj.bytecode.debug", "").equals("true");
 
   /**
-   * An exception of this type is thrown during code generation if the code
-   * generator tried to generate a jump that did not fit in a short jump offset
-   * (2 bytes).  Code generation should then be retried with wide gotos (4 byte
-   * offsets).
+   * An exception of this type is thrown if a jump offset is patched to a value
+   * that does not fit in a short jump offset (2 bytes). Jumps that do not fit
+   * are widened by branch relaxation, so this indicates an internal error.
    */
   public static class JumpOffsetError extends Error {
     public JumpOffsetError() {
@@ -71,6 +69,9 @@ public class CodeGeneration {
     int name_index;
     int descriptor_index;
     int index;
+
+    /** The next variable entry with the same scope label. */
+    LocalVariableEntry nextInScope;
   }
 
   class ExceptionEntry {
@@ -166,21 +167,36 @@ public class CodeGeneration {
     public int target; // Target PC (or label, before back-patch).
     public boolean wide;
     public BasicBlock bb;
+
+    /** The next unpatched jump to the same label. */
+    Jump nextUse;
   }
 
+  /**
+   * Jumps released by finished methods, for reuse by the next method
+   * generated on the same thread.
+   */
+  private static final ThreadLocal<ArrayList<Jump>> jumpPool =
+      new ThreadLocal<ArrayList<Jump>>() {
+        @Override protected ArrayList<Jump> initialValue() {
+          return new ArrayList<Jump>();
+        }
+      };
+
+  /** Limits the number of pooled jumps per thread. */
+  private static final int MAX_POOLED_JUMPS = 4096;
+
   /** Bytecode buffer. */
-  private final ByteArray bytes = new ByteArray();
+  final ByteArray bytes = new ByteArray();
 
   private final ConstantPool constantPool;
 
   private final ASTNode context;
 
-  private final boolean wideGotos;
-
   private int variableScopeLabel = 1;
 
-  private Map<Integer, Collection<LocalVariableEntry>> variableScopeLabelUses =
-      new HashMap<Integer, Collection<LocalVariableEntry>>();
+  /** The first variable entry for each scope label, indexed by label. */
+  private LocalVariableEntry[] variableScopeLabelUses = new LocalVariableEntry[8];
 
   public Collection<LocalVariableEntry> localVariableTable = new ArrayList<LocalVariableEntry>();
 
@@ -191,20 +207,16 @@ public class CodeGeneration {
   public Collection<ExceptionEntry> exceptions = new ArrayList<ExceptionEntry>();
 
   /**
-   * Maps label IDs to bytecode address.
+   * Maps labels to bytecode addresses, basic blocks and unpatched jumps.
    */
-  private Map<Integer, Integer> address = new HashMap<Integer, Integer>();
+  final LabelTable labels = new LabelTable();
 
-  private int lastLabel = 0;
-
-  private Map<Integer, Collection<Jump>> uses = new HashMap<Integer, Collection<Jump>>();
-
-  private ArrayList<Jump> jumps = new ArrayList<Jump>();
+  ArrayList<Jump> jumps = new ArrayList<Jump>();
 
   private java.util.List<Monitor> monitors = new ArrayList<Monitor>();
 
   /** Maps bytecode locations to basic blocks. */
-  private ArrayList<BasicBlock> blocks = new ArrayList<BasicBlock>();
+  ArrayList<BasicBlock> blocks = new ArrayList<BasicBlock>();
 
   /**
    * Block -1 is the entry block.
@@ -212,18 +224,15 @@ public class CodeGeneration {
    */
   private int nextBlock = 2;
 
-  /** Maps labels to basic blocks. */
-  private Map<Integer, BasicBlock> blockLabels = new HashMap<Integer, BasicBlock>();
-
   /** Entry block. */
-  private final BasicBlock entry;
+  final BasicBlock entry;
 
   private boolean afterAbrupt = false;
 
   /**
    * Current basic block.
    */
-  private BasicBlock block;
+  BasicBlock block;
 
   private boolean computedStackFrames = false;
   private int maxStack;
@@ -231,24 +240,13 @@ public class CodeGeneration {
   private ArrayList<StackFrame> stackFrames = new ArrayList<StackFrame>();
 
   /**
-   * Initializes code generation with narrow jumps. This will cause addLabel
-   * and emitGoto to throw a JumpOffsetError if the required jump (or
-   * back-patched jump) does not fit inside a 2-byte offset.
+   * Initializes code generation with narrow jumps. Jumps whose offsets do not
+   * fit in two bytes are widened after code generation, see
+   * {@link #relaxBranches()}.
    */
   public CodeGeneration(ConstantPool constantPool, ASTNode context) {
-    this(constantPool, context, false);
-  }
-
-  /**
-   * If the wideGotos parameter is {@code true} then code generation is
-   * initialized to use wide gotos where possible. This can prevent
-   * JumpOffsetError from being thrown during code generation, but will
-   * generate slightly larger bytecode.
-   */
-  public CodeGeneration(ConstantPool constantPool, ASTNode context, boolean wideGotos) {
     this.constantPool = constantPool;
     this.context = context;
-    this.wideGotos = wideGotos;
     entry = new BasicBlock(-1, 0);
     entry.entryStack = new StackFrame();
     block = entry;
@@ -263,11 +261,9 @@ public class CodeGeneration {
   }
 
   public void addVariableScopeLabel(int label) {
-    Integer label_object = label;
     // Update all reference to this label.
-    if (variableScopeLabelUses.containsKey(label_object)) {
-      Collection<LocalVariableEntry> array = variableScopeLabelUses.get(label_object);
-      for (LocalVariableEntry e : array) {
+    if (label < variableScopeLabelUses.length) {
+      for (LocalVariableEntry e = variableScopeLabelUses[label]; e != null; e = e.nextInScope) {
         e.length = pos() - e.start_pc;
       }
     }
@@ -282,11 +278,12 @@ public class CodeGeneration {
     e.descriptor_index = constantPool().addUtf8(type.typeDescriptor());
     e.index = localNum;
     localVariableTable.add(e);
-    Integer label_object = variableScopeEndLabel;
-    if (!variableScopeLabelUses.containsKey(label_object)) {
-      variableScopeLabelUses.put(label_object, new ArrayList<LocalVariableEntry>());
+    if (variableScopeEndLabel >= variableScopeLabelUses.length) {
+      variableScopeLabelUses = Arrays.copyOf(variableScopeLabelUses,
+          Math.max(variableScopeEndLabel + 1, variableScopeLabelUses.length * 2));
     }
-    variableScopeLabelUses.get(label_object).add(e);
+    e.nextInScope = variableScopeLabelUses[variableScopeEndLabel];
+    variableScopeLabelUses[variableScopeEndLabel] = e;
   }
 
   public void addLineNumberEntryAtCurrentPC(ASTNode node) {
@@ -375,27 +372,25 @@ public class CodeGeneration {
    */
   public void addLabel(int label, int pc) {
     // TODO: check for duplicate labels?
-    address.put(label, pc);
-    lastLabel = Math.max(lastLabel, label);
+    labels.setAddress(label, pc);
   }
 
   /**
    * Add a label at the current PC.
    *
    * <p>This back-patches the label address to previous jumps that use this
-   * label. May throw a JumpOffsetError if the offset to this label does not
-   * fit in a any previous jump.
+   * label. Jumps where the offset to this label does not fit are patched
+   * later, by branch relaxation.
    *
    * @return the offset to the target label from current PC, or zero if the target
    * address is not yet known.
    */
   public void addLabel(int label) {
     addLabel(label, pos());
-    Integer key = Integer.valueOf(label);
-    if (uses.containsKey(key)) {
-      // Update all jumps to this label.
-      for (Jump jump : uses.get(key)) {
-        jump.target = pos();
+    // Update all jumps to this label.
+    for (Jump jump = labels.removeUses(label); jump != null; jump = jump.nextUse) {
+      jump.target = pos();
+      if (jump.wide || fitsShortOffset(jump.target - jump.offset)) {
         patch(jump);
       }
     }
@@ -405,7 +400,7 @@ public class CodeGeneration {
       closeBlock();
     }
     block.label = label;
-    blockLabels.put(label, block);
+    labels.setBlock(label, block);
   }
 
   private void patch(Jump jump) {
@@ -420,11 +415,11 @@ public class CodeGeneration {
    * Returns the address of the given label.
    */
   public int addressOf(int label) {
-    Integer label_object = label;
-    if (!address.containsKey(label_object)) {
+    int address = labels.address(label);
+    if (address < 0) {
       throw new Error("Cannot compute address of unplaced label (id: " + label + ")");
     }
-    return address.get(label_object);
+    return address;
   }
 
   /**
@@ -438,37 +433,64 @@ public class CodeGeneration {
    * not been placed yet.
    */
   private int jump(int location, int offset, int label, boolean wide) {
-    Jump jump = new Jump();
+    Jump jump = newJump();
     jump.bb = block;
     jump.loc = location;
     jump.offset = offset;
     jump.wide = wide;
-    Integer key = Integer.valueOf(label);
-    Integer val = address.get(key);
-    if (val != null) {
+    int val = labels.address(label);
+    if (val >= 0) {
       // Jump address is available now.
       jump.target = val;
       jumps.add(jump);
       int diff = val - offset;
-      if (diff > Short.MAX_VALUE || diff < Short.MIN_VALUE) {
-        // Jump offset is too large - restart with wide jumps.
-        throw new JumpOffsetError();
+      if (!wide && !fitsShortOffset(diff)) {
+        // The jump is widened by branch relaxation.
+        return 0;
       }
       return diff;
     } else {
       // Add this PC to list of jumps to be back-patched for the given label.
       jump.target = label;
-      Collection<Jump> jumps = uses.get(key);
-      if (jumps == null) {
-        jumps = new ArrayList<Jump>();
-        uses.put(key, jumps);
-      }
+      labels.addUse(label, jump);
       jumps.add(jump);
-      this.jumps.add(jump);
       return 0;
     }
   }
 
+  /**
+   * Allocates a jump, reusing a pooled jump if possible.
+   */
+  Jump newJump() {
+    ArrayList<Jump> pool = jumpPool.get();
+    if (pool.isEmpty()) {
+      return new Jump();
+    }
+    Jump jump = pool.remove(pool.size() - 1);
+    jump.nextUse = null;
+    return jump;
+  }
+
+  /**
+   * Releases the bytecode buffer and jumps of this method for reuse by the
+   * next method generated on the same thread. This is called when the code
+   * attribute has been built, and the code generation can not be used after
+   * this.
+   */
+  public void release() {
+    bytes.release();
+    ArrayList<Jump> pool = jumpPool.get();
+    for (Jump jump : jumps) {
+      if (pool.size() >= MAX_POOLED_JUMPS) {
+        break;
+      }
+      jump.bb = null;
+      jump.nextUse = null;
+      pool.add(jump);
+    }
+    jumps.clear();
+  }
+
   /**
    * Relative jump in switch table generation.
    * NB: offsetLbl must already be generated.
@@ -485,6 +507,10 @@ public class CodeGeneration {
     bytes.set(position + 1, (byte) (address & 0xff));
   }
 
+  private static boolean fitsShortOffset(int offset) {
+    return offset >= Short.MIN_VALUE && offset <= Short.MAX_VALUE;
+  }
+
   private void setAddress32(int position, int address) {
     bytes.set(position,     (byte) (address >> 24 & 0xff));
     bytes.set(position + 1, (byte) (address >> 16 & 0xff));
@@ -502,6 +528,18 @@ public class CodeGeneration {
     return maxLocals;
   }
 
+  /**
+   * Optimizes the generated bytecode. This must be called after all code has
+   * been generated, and before the stack frames are computed.
+   *
+   * @see BytecodeOptimizer
+   */
+  public void optimize() {
+    if (!computedStackFrames) {
+      new BytecodeOptimizer(this).optimize();
+    }
+  }
+
   /**
    * Pus a new monitor to the monitor stack.
    * @param mon the monitor local number
@@ -1131,6 +1169,21 @@ public class CodeGeneration {
     block.pop(numArg);
   }
 
+  /**
+   * @param constantIndex Constant index of the call site specifier.
+   * @param numArg the number of individual arguments.
+   * @param returnType the type of the value produced by the call site.
+   */
+  public void INVOKEDYNAMIC(int constantIndex, int numArg, TypeDecl returnType) {
+    instr(Bytecode.INVOKEDYNAMIC);
+    bytes.add2(constantIndex);
+    bytes.add2(0);
+    block.pop(numArg);
+    if (!returnType.isVoid()) {
+      block.push(returnType.verificationType());
+    }
+  }
+
   /**
    * Push an integer constant on the operand stack.
    */
@@ -1740,14 +1793,9 @@ public class CodeGeneration {
   }
 
   public void GOTO(int label) {
-    int offset = jump(pos() + 1, pos(), label, wideGotos);
-    if (wideGotos) {
-      bytes.add(Bytecode.GOTO_W);
-      bytes.add4(offset);
-    } else {
-      bytes.add(Bytecode.GOTO);
-      bytes.add2(offset);
-    }
+    int offset = jump(pos() + 1, pos(), label, false);
+    bytes.add(Bytecode.GOTO);
+    bytes.add2(offset);
     block.addJump(label);
     afterAbrupt = true;
     closeBlock();
@@ -2015,15 +2063,17 @@ public class CodeGeneration {
     }
     computedStackFrames = true;
 
+    relaxBranches();
+
     // Connect basic blocks.
     for (BasicBlock bb : blocks) {
-      for (int label : bb.jumps) {
-        bb.connect(blockLabels.get(label));
+      for (int i = 0; i < bb.numJumps(); ++i) {
+        bb.connect(labels.block(bb.jump(i)));
       }
     }
 
     for (ExceptionEntry exception : exceptions) {
-      BasicBlock handler = blockLabels.get(exception.handler_lbl);
+      BasicBlock handler = labels.block(exception.handler_lbl);
       exception.handler = handler;
       for (BasicBlock bb : blocks) {
         if (bb.start >= exception.start_pc && bb.end <= exception.end_pc) {
@@ -2033,14 +2083,16 @@ public class CodeGeneration {
       }
     }
 
-    // TODO: track max locals and max stack size.
-    LinkedList<BasicBlock> worklist = new LinkedList<BasicBlock>();
-    search(entry, worklist);
-
-    while (!worklist.isEmpty()) {
-      BasicBlock next = worklist.pop();
-      next.working = false;
-      propagate(next, worklist);
+    // Propagate types in reverse postorder until a fixpoint is reached.
+    // Pending blocks are tracked by their reverse postorder index, and the
+    // pending block with the lowest index is processed next, so that each
+    // block is normally processed after all its forward predecessors.
+    BasicBlock[] order = reversePostorder();
+    BitSet pending = new BitSet(order.length);
+    pending.set(entry.index);
+    for (int i = pending.nextSetBit(0); i >= 0; i = pending.nextSetBit(0)) {
+      pending.clear(i);
+      propagate(order[i], pending);
     }
 
     if (DEBUG) {
@@ -2084,7 +2136,7 @@ public class CodeGeneration {
           }
           // If the previous block was unlabelled, add a label for it.
           if (deleted.label < 0) {
-            deleted.label = lastLabel + 1;
+            deleted.label = labels.maxLabel() + 1;
             addLabel(deleted.label, deleted.start);
           }
           // Extend exception ranges that start at this block.
@@ -2124,7 +2176,7 @@ public class CodeGeneration {
         }
 
         maxLocals = Math.max(maxLocals, bb.maxLocals);
-        maxStack = Math.max(maxStack, bb.exitStack().maxStack());
+        maxStack = Math.max(maxStack, bb.exitMaxStack);
       } else {
         if (DEBUG) {
           printBlock(bb);
@@ -2190,6 +2242,176 @@ public class CodeGeneration {
     }
   }
 
+  /**
+   * Widens the short jumps whose offsets do not fit in two bytes.
+   *
+   * <p>All jumps except switch jumps are generated with short offsets. Only
+   * the jumps that overflow are widened: a goto is replaced by a goto_w, and a
+   * conditional branch is inverted to jump over a new goto_w to the original
+   * target. Widening jumps moves the following code, which can make more
+   * jumps overflow, so this is repeated until all jumps fit.
+   */
+  private void relaxBranches() {
+    while (true) {
+      Collection<Jump> overflow = new ArrayList<Jump>();
+      for (Jump jump : jumps) {
+        if (!jump.wide && !fitsShortOffset(jump.target - jump.offset)) {
+          overflow.add(jump);
+        }
+      }
+      if (overflow.isEmpty()) {
+        return;
+      }
+      widenJumps(overflow);
+    }
+  }
+
+  /**
+   * Widens the given jumps and moves the code, basic blocks, labels,
+   * exception ranges and debug tables to the new positions.
+   */
+  private void widenJumps(Collection<Jump> overflow) {
+    byte[] code = bytes.toArray();
+    Jump[] widen = new Jump[code.length];
+    for (Jump jump : overflow) {
+      widen[jump.offset] = jump;
+    }
+
+    // Copy the code and build a map from old to new positions.
+    int[] pcMap = new int[code.length + 1];
+    bytes.setPos(0);
+    int pc = 0;
+    while (pc < code.length) {
+      pcMap[pc] = pos();
+      byte op = code[pc];
+      if (widen[pc] != null) {
+        pcMap[pc + 1] = pos() + 1;
+        pcMap[pc + 2] = pos() + 2;
+        if (op != Bytecode.GOTO) {
+          // Invert the branch to jump over the following goto_w.
+          bytes.add(invertBranch(op));
+          bytes.add2(8);
+        }
+        bytes.add(Bytecode.GOTO_W);
+        bytes.add4(0);
+        pc += 3;
+      } else if (op == Bytecode.TABLESWITCH || op == Bytecode.LOOKUPSWITCH) {
+        // Re-align the switch table.
+        bytes.add(op);
+        alignSwitch();
+        int table = (pc + 4) & ~3;
+        for (int i = pc + 1; i < table; ++i) {
+          pcMap[i] = pos();
+        }
+        pc = table;
+        // Copy the switch table.
+        int size = op == Bytecode.TABLESWITCH
+            ? 12 + 4 * (int4(code, table + 8) - int4(code, table + 4) + 1)
+            : 8 + 8 * int4(code, table + 4);
+        for (int i = table; i < table + size; ++i) {
+          pcMap[i] = pos();
+          bytes.add(code[i]);
+        }
+        pc += size;
+      } else {
+        int next = pc + BytecodeDebug.stepBytecode(code, pc);
+        for (int i = pc; i < next; ++i) {
+          pcMap[i] = pos();
+          bytes.add(code[i]);
+        }
+        pc = next;
+      }
+    }
+    pcMap[code.length] = pos();
+
+    for (BasicBlock bb : blocks) {
+      bb.start = pcMap[bb.start];
+      bb.end = pcMap[bb.end];
+    }
+    block.start = pcMap[block.start];
+    labels.relocate(pcMap);
+
+    Collection<Jump> branches = new ArrayList<Jump>();
+    for (Jump jump : jumps) {
+      boolean widened = widen[jump.offset] == jump;
+      boolean isGoto = code[jump.offset] == Bytecode.GOTO;
+      jump.loc = pcMap[jump.loc];
+      jump.offset = pcMap[jump.offset];
+      jump.target = pcMap[jump.target];
+      if (widened) {
+        jump.wide = true;
+        if (!isGoto) {
+          // The inverted branch jumps to the fallthrough block, and the
+          // original target is reached by a goto_w in a new basic block.
+          BasicBlock branchBlock = jump.bb;
+          BasicBlock fallthrough = branchBlock.next;
+          if (fallthrough.label < 0) {
+            fallthrough.label = labels.maxLabel() + 1;
+            addLabel(fallthrough.label, fallthrough.start);
+            labels.setBlock(fallthrough.label, fallthrough);
+          }
+          Jump branch = new Jump();
+          branch.bb = branchBlock;
+          branch.loc = jump.offset + 1;
+          branch.offset = jump.offset;
+          branch.target = fallthrough.start;
+          branch.wide = false;
+          branches.add(branch);
+
+          BasicBlock gotoBlock = new BasicBlock(-nextBlock, jump.offset + 3);
+          nextBlock += 1;
+          gotoBlock.end = fallthrough.start;
+          for (int i = 0; i < branchBlock.numJumps(); ++i) {
+            gotoBlock.addJump(branchBlock.jump(i));
+          }
+          branchBlock.end = gotoBlock.start;
+          branchBlock.clearJumps();
+          branchBlock.addJump(fallthrough.label);
+          branchBlock.setNext(gotoBlock);
+          blocks.add(blocks.indexOf(branchBlock) + 1, gotoBlock);
+          jump.bb = gotoBlock;
+          jump.offset += 3;
+        }
+        jump.loc = jump.offset + 1;
+      }
+    }
+    jumps.addAll(branches);
+    for (Jump jump : jumps) {
+      if (jump.wide || fitsShortOffset(jump.target - jump.offset)) {
+        patch(jump);
+      }
+    }
+
+    for (ExceptionEntry e : exceptions) {
+      e.start_pc = pcMap[e.start_pc];
+      e.end_pc = pcMap[e.end_pc];
+    }
+    for (LineNumberEntry e : lineNumberTable) {
+      e.start_pc = pcMap[e.start_pc];
+    }
+    for (LocalVariableEntry e : localVariableTable) {
+      int end = pcMap[e.start_pc + e.length];
+      e.start_pc = pcMap[e.start_pc];
+      e.length = end - e.start_pc;
+    }
+  }
+
+  /**
+   * Returns the conditional branch with the inverted condition.
+   */
+  private static byte invertBranch(byte op) {
+    if (op == Bytecode.IFNULL || op == Bytecode.IFNONNULL) {
+      return (byte) (op ^ 1);
+    }
+    // The branches from ifeq to if_acmpne are in pairs of opposite conditions.
+    return (byte) ((((op & 0xff) - (Bytecode.IFEQ & 0xff)) ^ 1) + (Bytecode.IFEQ & 0xff));
+  }
+
+  private static int int4(byte[] code, int pos) {
+    return (code[pos] & 0xff) << 24 | (code[pos + 1] & 0xff) << 16
+        | (code[pos + 2] & 0xff) << 8 | (code[pos + 3] & 0xff);
+  }
+
   private void printBlock(BasicBlock bb) {
     BytecodeDebug.printBytecodes(System.out, bytes.toArray(),
         bb.reachable ? "\t" : "--\t", bb.start, bb.end);
@@ -2205,65 +2427,80 @@ public class CodeGeneration {
   }
 
   /**
-   * Propagate types, discover reachable blocks and track max stack size.
+   * Discover reachable blocks and number them in reverse postorder.
+   *
+   * @return the reachable blocks in reverse postorder.
    */
-  private void search(BasicBlock block, LinkedList<BasicBlock> worklist) {
-    if (block.reachable) {
-      // Already visited.
-      return;
-    }
-
-    block.reachable = true;
-    propagate(block, worklist);
-    if (block.next != null) {
-      search(block.next, worklist);
-    }
-    for (BasicBlock bb : block.succ) {
-      search(bb, worklist);
+  private BasicBlock[] reversePostorder() {
+    BasicBlock[] postorder = new BasicBlock[blocks.size()];
+    int numReachable = 0;
+    BasicBlock[] path = new BasicBlock[blocks.size()];
+    int[] cursor = new int[blocks.size()];
+    int depth = 0;
+    entry.reachable = true;
+    path[0] = entry;
+    cursor[0] = 0;
+    while (depth >= 0) {
+      BasicBlock block = path[depth];
+      if (cursor[depth] < block.numSuccessors()) {
+        BasicBlock succ = block.successor(cursor[depth]);
+        cursor[depth] += 1;
+        if (!succ.reachable) {
+          succ.reachable = true;
+          depth += 1;
+          path[depth] = succ;
+          cursor[depth] = 0;
+        }
+      } else {
+        postorder[numReachable++] = block;
+        depth -= 1;
+      }
     }
-    for (ExceptionEntry e : block.excp) {
-      search(e.handler, worklist);
+    BasicBlock[] order = new BasicBlock[numReachable];
+    for (int i = 0; i < numReachable; ++i) {
+      BasicBlock block = postorder[numReachable - i - 1];
+      block.index = i;
+      order[i] = block;
     }
+    return order;
   }
 
-  private void propagate(BasicBlock block, LinkedList<BasicBlock> worklist) {
-    block.reachable = true;
+  /**
+   * Propagate the exit types of a block to its successors and track max stack
+   * size.
+   */
+  private void propagate(BasicBlock block, BitSet pending) {
+    StackFrame exit = block.exitStack();
+    block.exitMaxStack = exit.maxStack();
     if (block.next != null) {
-      propagate(block, block.next, worklist);
+      propagate(exit, block.next, pending);
     }
     for (BasicBlock bb : block.succ) {
-      propagate(block, bb, worklist);
+      propagate(exit, bb, pending);
     }
     for (ExceptionEntry e : block.excp) {
-      propagateException(block, e, worklist);
-    }
-  }
-
-  private void propagate(BasicBlock from, BasicBlock next, LinkedList<BasicBlock> worklist) {
-    if (next.entryStack == null) {
-      next.entryStack = new StackFrame(from.exitStack());
-    } else if (next.entryStack.merge(from.exitStack())) {
-      if (!next.working) {
-        next.working = true;
-        worklist.add(next);
-      }
+      StackFrame frame = new StackFrame(block.entryStack);
+      block.localSubset(frame);
+      frame.clearStack();
+      frame.push(e.type);
+      propagate(frame, e.handler, pending);
     }
   }
 
-  private void propagateException(BasicBlock from, ExceptionEntry e,
-      LinkedList<BasicBlock> worklist) {
-    BasicBlock next = e.handler;
-    StackFrame frame = new StackFrame(from.entryStack);
-    from.localSubset(frame);
-    frame.clearStack();
-    frame.push(e.type);
+  /**
+   * Merge a frame into the entry frame of a successor block, and mark the
+   * successor as pending if its entry frame changed.
+   *
+   * <p>The successor entry frame is a copy-on-write copy of the propagated
+   * frame, so straight-line successors share their type lists until a merge
+   * changes them.
+   */
+  private void propagate(StackFrame frame, BasicBlock next, BitSet pending) {
     if (next.entryStack == null) {
-      next.entryStack = frame;
+      next.entryStack = new StackFrame(frame);
+      pending.set(next.index);
     } else if (next.entryStack.merge(frame)) {
-      if (!next.working) {
-        next.working = true;
-        worklist.add(next);
-      }
+      pending.set(next.index);
     }
   }
 
@@ -0,0 +1,167 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.ast;
+
+import java.util.Arrays;
+
+/**
+ * Maps the labels of a method to their addresses, basic blocks and
+ * unpatched jumps.
+ *
+ * <p>Labels are allocated sequentially by the constant pool of a class, so
+ * the labels used in one method are mostly dense. The table stores them in
+ * arrays indexed by the label minus the smallest label in the table, which
+ * avoids boxing labels and addresses.
+ */
+class LabelTable {
+  private static final int UNPLACED = -1;
+
+  /** The smallest label that fits in the arrays. */
+  private int base = 0;
+
+  /** Label addresses, or UNPLACED. */
+  private int[] address = new int[0];
+
+  /** The basic block starting at each label. */
+  private BasicBlock[] blocks = new BasicBlock[0];
+
+  /** The first jump to each unplaced label, linked by Jump.nextUse. */
+  private CodeGeneration.Jump[] uses = new CodeGeneration.Jump[0];
+
+  private int maxLabel = 0;
+
+  /**
+   * @return the address of the label, or -1 if the label has not been placed
+   */
+  int address(int label) {
+    int index = label - base;
+    if (index < 0 || index >= address.length) {
+      return UNPLACED;
+    }
+    return address[index];
+  }
+
+  void setAddress(int label, int pc) {
+    int index = index(label);
+    address[index] = pc;
+    maxLabel = Math.max(maxLabel, label);
+  }
+
+  /**
+   * @return the basic block starting at the label, or {@code null} if there
+   * is no such block
+   */
+  BasicBlock block(int label) {
+    int index = label - base;
+    if (index < 0 || index >= blocks.length) {
+      return null;
+    }
+    return blocks[index];
+  }
+
+  void setBlock(int label, BasicBlock block) {
+    int index = index(label);
+    blocks[index] = block;
+  }
+
+  /**
+   * Adds a jump that needs to be patched when the label is placed.
+   */
+  void addUse(int label, CodeGeneration.Jump jump) {
+    int index = index(label);
+    jump.nextUse = uses[index];
+    uses[index] = jump;
+  }
+
+  /**
+   * Removes the jumps that need to be patched when the label is placed.
+   *
+   * @return the first jump, the remaining jumps are linked by Jump.nextUse
+   */
+  CodeGeneration.Jump removeUses(int label) {
+    int index = label - base;
+    if (index < 0 || index >= uses.length) {
+      return null;
+    }
+    CodeGeneration.Jump first = uses[index];
+    uses[index] = null;
+    return first;
+  }
+
+  /**
+   * @return the largest label that has been placed
+   */
+  int maxLabel() {
+    return maxLabel;
+  }
+
+  /**
+   * Moves all placed labels to new addresses.
+   *
+   * @param pcMap maps old addresses to new addresses
+   */
+  void relocate(int[] pcMap) {
+    for (int i = 0; i < address.length; ++i) {
+      if (address[i] != UNPLACED) {
+        address[i] = pcMap[address[i]];
+      }
+    }
+  }
+
+  /**
+   * Grows the arrays to fit the given label.
+   *
+   * @return the array index for the label
+   */
+  private int index(int label) {
+    if (address.length == 0) {
+      base = label;
+    }
+    if (label < base || label - base >= address.length) {
+      int newBase = Math.min(base, label);
+      int shift = base - newBase;
+      int size = Math.max(Math.max(label - newBase + 1, address.length + shift),
+          address.length * 2);
+      size = Math.max(size, 16);
+      int[] newAddress = new int[size];
+      Arrays.fill(newAddress, UNPLACED);
+      System.arraycopy(address, 0, newAddress, shift, address.length);
+      BasicBlock[] newBlocks = new BasicBlock[size];
+      System.arraycopy(blocks, 0, newBlocks, shift, blocks.length);
+      CodeGeneration.Jump[] newUses = new CodeGeneration.Jump[size];
+      System.arraycopy(uses, 0, newUses, shift, uses.length);
+      address = newAddress;
+      blocks = newBlocks;
+      uses = newUses;
+      base = newBase;
+    }
+    return label - base;
+  }
+}
@@ -47,12 +47,20 @@ public class StackFrame {
 
   private static final VerificationType EMPTY_LOCAL = VerificationTypes.TOP;
 
-  private final List<VerificationType> locals = new ArrayList<VerificationType>(8);
+  private List<VerificationType> locals = new ArrayList<VerificationType>(8);
   private int maxLocals = 0;
 
-  private final List<VerificationType> stack = new ArrayList<VerificationType>(8);
+  private List<VerificationType> stack = new ArrayList<VerificationType>(8);
   private int maxStack = 0;
 
+  /**
+   * Copies of a frame share the locals and stack lists of the original until
+   * one of them is modified.  These flags are set when the corresponding list
+   * may be shared with another frame, and must be copied before writing.
+   */
+  private boolean sharedLocals = false;
+  private boolean sharedStack = false;
+
   /**
    * Size of stack in words.
    */
@@ -79,6 +87,10 @@ public class StackFrame {
 
   /**
    * Copy constructor.
+   *
+   * <p>The copy shares the locals and stack of the other frame until one of
+   * the frames is modified.
+   *
    * @param other stack frame to copy
    */
   public StackFrame(StackFrame other) {
@@ -101,6 +113,7 @@ public class StackFrame {
     if (top == 0) {
       throw new Error("Operand stack underrun.");
     } else {
+      ownStack();
       stackSize -= stack.get(top - 1).variableSize();
       stack.remove(--top);
     }
@@ -120,6 +133,7 @@ public class StackFrame {
   }
 
   public void setLocal(int index, VerificationType type) {
+    ownLocals();
     while (index > maxLocals) {
       locals.add(EMPTY_LOCAL);
       maxLocals += 1;
@@ -136,6 +150,7 @@ public class StackFrame {
    * Push an element on the stack.
    */
   public void push(VerificationType type) {
+    ownStack();
     stack.add(type);
     afterPush(type);
   }
@@ -181,6 +196,7 @@ public class StackFrame {
    */
   public void dup_x1() {
     VerificationType topType = peek(0);
+    ownStack();
     stack.add(top - 2, topType);
     afterPush(topType);
   }
@@ -190,6 +206,7 @@ public class StackFrame {
    */
   public void dup_x2() {
     VerificationType topType = peek(0);
+    ownStack();
     stack.add(top - 3, topType);
     afterPush(topType);
   }
@@ -202,6 +219,7 @@ public class StackFrame {
   public void swap() {
     VerificationType a = peek(0);
     VerificationType b = peek(1);
+    ownStack();
     stack.set(top - 1, b);
     stack.set(top - 2, a);
   }
@@ -373,29 +391,39 @@ public class StackFrame {
       VerificationType typeA = locals.get(i);
       VerificationType typeB = other.locals.get(i);
       if (!typeA.sameType(typeB)) {
-        diff = true;
-        locals.set(i, typeA.nca(typeB));
+        VerificationType merged = typeA.nca(typeB);
+        if (merged != typeA) {
+          diff = true;
+          ownLocals();
+          locals.set(i, merged);
+        }
       }
     }
     for (; i < maxLocals || i < other.maxLocals; ++i) {
-      if (i < maxLocals && getLocal(i) != VerificationTypes.TOP) {
-        diff = true;
+      if (i >= maxLocals || getLocal(i) != VerificationTypes.TOP) {
+        if (i < maxLocals) {
+          diff = true;
+        }
+        setLocal(i, VerificationTypes.TOP);
       }
-      setLocal(i, VerificationTypes.TOP);
     }
     for (i = 0; i < top && i < other.top; ++i) {
       VerificationType typeA = stack.get(i);
       VerificationType typeB = other.stack.get(i);
       if (!typeA.sameType(typeB)) {
-        diff = true;
-        stack.set(i, typeA.nca(typeB));
+        VerificationType merged = typeA.nca(typeB);
+        if (merged != typeA) {
+          diff = true;
+          ownStack();
+          stack.set(i, merged);
+        }
       }
     }
-    for (; i < top && i < other.top; ++i) {
-      stack.set(i, VerificationTypes.TOP);
-    }
-    while (top > i) {
-      stack.remove(--top);
+    if (top > i) {
+      ownStack();
+      while (top > i) {
+        stack.remove(--top);
+      }
     }
     return diff;
   }
@@ -404,12 +432,14 @@ public class StackFrame {
    * Make this a copy of another stack frame
    */
   public void copy(StackFrame other) {
-    locals.clear();
-    locals.addAll(other.locals);
+    locals = other.locals;
+    sharedLocals = true;
+    other.sharedLocals = true;
     maxLocals = other.maxLocals;
 
-    stack.clear();
-    stack.addAll(other.stack);
+    stack = other.stack;
+    sharedStack = true;
+    other.sharedStack = true;
     maxStack = other.maxStack;
     stackSize = other.stackSize;
     top = other.top;
@@ -432,7 +462,32 @@ public class StackFrame {
   public void clearStack() {
     stackSize = 0;
     top = 0;
-    stack.clear();
+    if (sharedStack) {
+      stack = new ArrayList<VerificationType>(8);
+      sharedStack = false;
+    } else {
+      stack.clear();
+    }
+  }
+
+  /**
+   * Copies the locals list if it may be shared with another frame.
+   */
+  private void ownLocals() {
+    if (sharedLocals) {
+      locals = new ArrayList<VerificationType>(locals);
+      sharedLocals = false;
+    }
+  }
+
+  /**
+   * Copies the stack list if it may be shared with another frame.
+   */
+  private void ownStack() {
+    if (sharedStack) {
+      stack = new ArrayList<VerificationType>(stack);
+      sharedStack = false;
+    }
   }
 
 }
@@ -0,0 +1,120 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import org.extendj.ast.Frontend;
+import org.extendj.ast.PathPart;
+import org.extendj.ast.Program;
+import org.extendj.ast.SignatureDatabase;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes a signature database for the library class path given on the
+ * command line. The database can be used with the -signaturedb option.
+ *
+ * <p>Example: build a database of the boot classpath and a library Jar:
+ * <pre>
+ * java -cp extendj.jar org.extendj.SignatureDatabaseBuilder -o lib.sig -classpath lib.jar
+ * </pre>
+ */
+public class SignatureDatabaseBuilder extends Frontend {
+
+  /**
+   * Entry point for the signature database builder.
+   * @param args command-line arguments
+   */
+  public static void main(String args[]) {
+    int exitCode = new SignatureDatabaseBuilder().run(args);
+    if (exitCode != 0) {
+      System.exit(exitCode);
+    }
+  }
+
+  public SignatureDatabaseBuilder() {
+    super("ExtendJ Signature Database Builder", ExtendJVersion.getVersion());
+  }
+
+  @Override
+  protected void initOptions() {
+    super.initOptions();
+    program.options().addKeyValueOption("-o");
+  }
+
+  /**
+   * Build the signature database.
+   * @param args command-line arguments
+   * @return 0 on success, 2 on configuration error, 3 on system error
+   */
+  public int run(String args[]) {
+    program.initBytecodeReader(Program.defaultBytecodeReader());
+    program.initJavaParser(Program.defaultJavaParser());
+    initOptions();
+    int argResult = processArgs(args);
+    if (argResult != 0) {
+      return argResult;
+    }
+    if (program.options().hasOption("-help")
+        || !program.options().hasValueForOption("-o")) {
+      printUsage();
+      return program.options().hasOption("-help") ? EXIT_SUCCESS : EXIT_CONFIG_ERROR;
+    }
+    File file = new File(program.options().getValueForOption("-o"));
+    SignatureDatabase database = new SignatureDatabase();
+    try {
+      for (PathPart part : program.getClassPath()) {
+        int added = database.add(part);
+        if (program.options().verbose()) {
+          System.out.println("Added " + added + " classes from " + part);
+        }
+      }
+      database.write(file);
+    } catch (IOException e) {
+      System.err.println("Error: could not write signature database " + file.getPath()
+          + ": " + e.getMessage());
+      return EXIT_SYSTEM_ERROR;
+    }
+    return EXIT_SUCCESS;
+  }
+
+  @Override
+  protected void printUsage() {
+    System.out.println(name() + " " + version());
+    System.out.println("\n"
+        + "Usage: java " + SignatureDatabaseBuilder.class.getName() + " -o <file> <options>\n"
+        + "  -o <file>                 The signature database file to write\n"
+        + "  -classpath <path>         Specify where to find user class files\n"
+        + "  -bootclasspath <path>     Override location of bootstrap class files\n"
+        + "  --system <jdk>            Override location of system modules\n"
+        + "  -verbose                  Print the number of classes read from each path\n"
+        + "  -help                     Print a synopsis of standard options");
+  }
+}
@@ -33,7 +33,7 @@ import beaver.Symbol;
 
 import org.extendj.parser.JavaParser.Terminals;
 import org.extendj.scanner.JavaScanner;
-import org.extendj.scanner.UnicodeEscapeReader;
+import org.extendj.scanner.SourceText;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -47,12 +47,19 @@ import java.util.ArrayList;
  * whitespace, comments, curly braces, and parenthesis. The input files need
  * not be pure Java files. Each unexpected character increases the token count
  * by one.
+ *
+ * <p>The summary also gives the scanning throughput: the total number of
+ * scanned tokens, including the tokens that are not counted, and the number
+ * of scanned tokens per second. The scan time includes reading and decoding
+ * the source files.
  * @author Jesper Öqvist <jesper.oqvist@cs.lth.se>
  */
 public class TokenCounter {
   private int allTokens = 0;
   private int allLines = 0;
   private int allImports = 0;
+  private long allScanned = 0;
+  private long scanTime = 0;
 
   /**
    * Count tokens in some Java source files.
@@ -94,6 +101,7 @@ public class TokenCounter {
     System.out.println();
     System.out.println("Counts Java tokens in the files listed on the command line.");
     System.out.println("Excludes whitespace, comments, curly braces, and parenthesis.");
+    System.out.println("The summary also shows the number of scanned tokens per second.");
     System.out.println("The input files need not be pure Java files. Each unexpected");
     System.out.println("character increases the total token count by one.");
   }
@@ -113,6 +121,11 @@ public class TokenCounter {
       System.out.println("tokens: " + allTokens);
       System.out.println("lines: " + allLines);
       System.out.println("imports: " + allImports);
+      System.out.println("scannedTokens: " + allScanned);
+      System.out.println("scanTime: " + (scanTime / 1000000) + " ms");
+      if (scanTime > 0) {
+        System.out.format("tokens/s: %.0f%n", allScanned * 1e9 / scanTime);
+      }
     }
   }
 
@@ -135,14 +148,15 @@ public class TokenCounter {
    * @return number of tokens in the file
    */
   public void processFile(String filename) {
-    int tokens = 0, lines = 0, imports = 0;
+    int tokens = 0, lines = 0, imports = 0, scanned = 0;
     File file = new File(filename);
     if (!file.isFile()) {
       System.err.println("Warning: could not open file " + filename);
     } else {
       try {
+        long start = System.nanoTime();
         FileInputStream is = new FileInputStream(file);
-        JavaScanner scanner = new JavaScanner(new UnicodeEscapeReader(is));
+        JavaScanner scanner = new JavaScanner(SourceText.read(is));
         boolean inImport = false;
         int prevLine = 0;
         while (true) {
@@ -152,6 +166,7 @@ public class TokenCounter {
             if (id == Terminals.EOF) {
               break;
             }
+            scanned += 1;
             switch (id) {
               case Terminals.IMPORT:
                 inImport = true;
@@ -183,6 +198,7 @@ public class TokenCounter {
             tokens += 1;
           }
         }
+        scanTime += System.nanoTime() - start;
         is.close();
         if (csv) {
           System.out.format("%s,%d,%d,%d%n", filename, tokens, lines, imports);
@@ -190,6 +206,7 @@ public class TokenCounter {
         allTokens += tokens;
         allLines += lines;
         allImports += imports;
+        allScanned += scanned;
       } catch (IOException e) {
         System.err.println("Warning: could not count tokens of " + filename);
         System.err.println(e.getMessage());
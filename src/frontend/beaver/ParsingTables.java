@@ -9,9 +9,12 @@
 package beaver;
 
 import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.zip.InflaterInputStream;
 
 /**
@@ -81,75 +84,105 @@ public final class ParsingTables
     this(new ByteArrayInputStream(decode(spec)));
   }
 
+  /**
+   * Loads the parser tables from a deflated input stream. The stream is
+   * inflated in bulk, and the tables are then copied from the inflated bytes
+   * into the primitive arrays.
+   */
   private ParsingTables(InputStream in)
   {
+    ByteBuffer data;
+    try
+    {
+      data = ByteBuffer.wrap(inflate(in));
+    }
+    catch (IOException e)
+    {
+      throw new IllegalStateException("cannot initialize parser tables: " + e.getMessage());
+    }
     try
     {
-      DataInputStream data = new DataInputStream(new InflaterInputStream(in));
-      try
+      int len = data.getInt();
+      actions = readShorts(data, len);
+      lookaheads = readShorts(data, len);
+
+      len = data.getInt();
+      actn_offsets = readInts(data, len);
+      goto_offsets = readInts(data, len);
+
+      len = data.getInt();
+      compressed = len != 0;
+      default_actions = compressed ? readShorts(data, len) : null;
+
+      int min_nt_id = Integer.MAX_VALUE;
+      len = data.getInt();
+      rule_infos = readInts(data, len);
+      for (int i = 0; i < len; i++)
       {
-        int len = data.readInt();
-        actions = new short[len];
-        for (int i = 0; i < len; i++)
-        {
-          actions[i] = data.readShort();
-        }
-        lookaheads = new short[len];
-        for (int i = 0; i < len; i++)
-        {
-          lookaheads[i] = data.readShort();
-        }
+        min_nt_id = Math.min(min_nt_id, rule_infos[i] >>> 16);
+      }
+      n_term = min_nt_id;
 
-        len = data.readInt();
-        actn_offsets = new int[len];
-        for (int i = 0; i < len; i++)
-        {
-          actn_offsets[i] = data.readInt();
-        }
-        goto_offsets = new int[len];
-        for (int i = 0; i < len; i++)
-        {
-          goto_offsets[i] = data.readInt();
-        }
+      error_symbol_id = data.getShort();
+    }
+    catch (BufferUnderflowException e)
+    {
+      throw new IllegalStateException("cannot initialize parser tables: unexpected end of tables");
+    }
+  }
 
-        len = data.readInt();
-        compressed = len != 0;
-        if (compressed)
-        {
-          default_actions = new short[len];
-          for (int i = 0; i < len; i++)
-          {
-            default_actions[i] = data.readShort();
-          }
-        }
-        else
+  /** Inflates the complete input stream, and closes it. */
+  private static byte[] inflate(InputStream in) throws IOException
+  {
+    InflaterInputStream inflater = new InflaterInputStream(in);
+    try
+    {
+      byte[] bytes = new byte[1 << 16];
+      int len = 0;
+      while (true)
+      {
+        if (len == bytes.length)
         {
-          default_actions = null;
+          bytes = Arrays.copyOf(bytes, bytes.length * 2);
         }
-
-        int min_nt_id = Integer.MAX_VALUE;
-        len = data.readInt();
-        rule_infos = new int[len];
-        for (int i = 0; i < len; i++)
+        int count = inflater.read(bytes, len, bytes.length - len);
+        if (count < 0)
         {
-          rule_infos[i] = data.readInt();
-          min_nt_id = Math.min(min_nt_id, rule_infos[i] >>> 16);
+          return Arrays.copyOf(bytes, len);
         }
-        n_term = min_nt_id;
-
-        error_symbol_id = data.readShort();
-      }
-      finally
-      {
-        data.close();
+        len += count;
       }
     }
-    catch (IOException e)
+    finally
     {
-      throw new IllegalStateException("cannot initialize parser tables: " + e.getMessage());
+      inflater.close();
     }
   }
 
+  private static short[] readShorts(ByteBuffer data, int len)
+  {
+    short[] result = new short[len];
+    data.asShortBuffer().get(result);
+    skip(data, len * 2);
+    return result;
+  }
+
+  private static int[] readInts(ByteBuffer data, int len)
+  {
+    int[] result = new int[len];
+    data.asIntBuffer().get(result);
+    skip(data, len * 4);
+    return result;
+  }
+
+  private static void skip(ByteBuffer data, int bytes)
+  {
+    // Buffer.position is called through the Buffer type because ByteBuffer
+    // overrides it with a covariant return type since Java 9.
+    Buffer buffer = data;
+    buffer.position(buffer.position() + bytes);
+  }
+
   /**
    * Scans lookaheads expected in a given state for a terminal symbol.
    * Used in error recovery when an unexpected terminal is replaced with one that is expected.
@@ -0,0 +1,405 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.ast;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects profiling information for a compilation.
+ *
+ * <p>The total time and count for each compiler phase is always recorded.
+ * When detailed profiling is enabled, the time spent on each compilation unit
+ * and type is also recorded. Compilation units are identified by their path
+ * name, and types by their fully qualified name.
+ *
+ * <p>All counters are thread-safe, so the profile can be updated while
+ * compilation units are checked or generated concurrently. In that case the
+ * per-unit and per-type times are measured on the thread doing the work, and
+ * can add up to more than the total time of the phase.
+ *
+ * <p>The parse phase time is summed over all parsed files. The wall time of
+ * parsing the source files, and the summed CPU time of parsing, are recorded
+ * separately since the source files can be parsed concurrently.
+ */
+public class CompilationProfile {
+  /** Profiled compiler phases. */
+  public enum Phase {
+    /** Parsing source files. */
+    PARSE("parse"),
+    /** Reading class files, including lazily parsed members. */
+    BYTECODE_PARSE("bytecodeParse"),
+    /** Computing semantic errors and warnings. */
+    ERROR_CHECK("errorCheck"),
+    /** Generating class files, or other per-unit processing after error checking. */
+    CODE_GEN("codeGen");
+
+    /** The name of the phase in the profile output. */
+    public final String label;
+
+    Phase(String label) {
+      this.label = label;
+    }
+  }
+
+  private static final int NUM_PHASES = Phase.values().length;
+
+  /** Accumulated times for a single compilation unit or type. */
+  private static class Entry {
+    final String name;
+    final AtomicLongArray time = new AtomicLongArray(NUM_PHASES);
+
+    Entry(String name) {
+      this.name = name;
+    }
+
+    long totalTime() {
+      long total = 0;
+      for (int i = 0; i < NUM_PHASES; ++i) {
+        total += time.get(i);
+      }
+      return total;
+    }
+  }
+
+  /** Sorts entries by descending total time. */
+  private static final Comparator<Entry> BY_TIME = new Comparator<Entry>() {
+    @Override
+    public int compare(Entry a, Entry b) {
+      long ta = a.totalTime();
+      long tb = b.totalTime();
+      if (ta != tb) {
+        return ta > tb ? -1 : 1;
+      }
+      return a.name.compareTo(b.name);
+    }
+  };
+
+  private final LongAdder[] phaseTime = new LongAdder[NUM_PHASES];
+  private final LongAdder[] phaseCount = new LongAdder[NUM_PHASES];
+
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  private final LongAdder parseWallTime = new LongAdder();
+  private final LongAdder parseCpuTime = new LongAdder();
+
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder lookupsFound = new LongAdder();
+  private final LongAdder lookupTime = new LongAdder();
+  private final AtomicLong maxLookupTime = new AtomicLong();
+
+  private volatile boolean detailed = false;
+  private final ConcurrentMap<String, Entry> units = new ConcurrentHashMap<String, Entry>();
+  private final ConcurrentMap<String, Entry> types = new ConcurrentHashMap<String, Entry>();
+
+  public CompilationProfile() {
+    for (int i = 0; i < NUM_PHASES; ++i) {
+      phaseTime[i] = new LongAdder();
+      phaseCount[i] = new LongAdder();
+    }
+  }
+
+  /** Clears all recorded profiling information. */
+  public void reset() {
+    for (int i = 0; i < NUM_PHASES; ++i) {
+      phaseTime[i].reset();
+      phaseCount[i].reset();
+    }
+    parseWallTime.reset();
+    parseCpuTime.reset();
+    lookups.reset();
+    lookupsFound.reset();
+    lookupTime.reset();
+    maxLookupTime.set(0);
+    units.clear();
+    types.clear();
+  }
+
+  /**
+   * Enables or disables recording of per-unit and per-type times.
+   */
+  public void setDetailed(boolean detailed) {
+    this.detailed = detailed;
+  }
+
+  /**
+   * @return {@code true} if per-unit and per-type times are recorded
+   */
+  public boolean isDetailed() {
+    return detailed;
+  }
+
+  /**
+   * Counts an item processed in a phase, and adds the time to the total of
+   * the phase.
+   */
+  public void record(Phase phase, long nanos) {
+    phaseTime[phase.ordinal()].add(nanos);
+    phaseCount[phase.ordinal()].increment();
+  }
+
+  /** Adds time to the total of a phase. */
+  public void addTime(Phase phase, long nanos) {
+    phaseTime[phase.ordinal()].add(nanos);
+  }
+
+  /** Adds to the number of items processed in a phase. */
+  public void addCount(Phase phase, long count) {
+    phaseCount[phase.ordinal()].add(count);
+  }
+
+  /**
+   * Adds wall time spent parsing the source files of a compilation. The
+   * parse phase total is not updated.
+   */
+  public void addParseWallTime(long nanos) {
+    parseWallTime.add(nanos);
+  }
+
+  /**
+   * Adds CPU time spent parsing a source file. The parse phase total is not
+   * updated.
+   */
+  public void addParseCpuTime(long nanos) {
+    parseCpuTime.add(nanos);
+  }
+
+  /**
+   * The CPU time of the current thread, in nanoseconds. If thread CPU time is
+   * not supported by the JVM, the wall time is used instead.
+   */
+  public static long threadCpuTime() {
+    if (THREADS.isCurrentThreadCpuTimeSupported()) {
+      return THREADS.getCurrentThreadCpuTime();
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Records time spent on a compilation unit, if detailed profiling is
+   * enabled. The phase total is not updated.
+   */
+  public void addUnitTime(String unit, Phase phase, long nanos) {
+    if (detailed) {
+      entry(units, unit).time.addAndGet(phase.ordinal(), nanos);
+    }
+  }
+
+  /**
+   * Records time spent on a type, if detailed profiling is enabled.
+   * The phase total is not updated.
+   */
+  public void addTypeTime(String type, Phase phase, long nanos) {
+    if (detailed) {
+      entry(types, type).time.addAndGet(phase.ordinal(), nanos);
+    }
+  }
+
+  /**
+   * Records a classpath lookup.
+   *
+   * @param found {@code true} if a compilation unit was found for the type name
+   * @param nanos lookup time, including the time to parse the compilation unit
+   */
+  public void lookup(boolean found, long nanos) {
+    lookups.increment();
+    if (found) {
+      lookupsFound.increment();
+    }
+    lookupTime.add(nanos);
+    long max = maxLookupTime.get();
+    while (nanos > max && !maxLookupTime.compareAndSet(max, nanos)) {
+      max = maxLookupTime.get();
+    }
+  }
+
+  /** The total time of a phase, in nanoseconds. */
+  public long time(Phase phase) {
+    return phaseTime[phase.ordinal()].sum();
+  }
+
+  /** The wall time spent parsing source files, in nanoseconds. */
+  public long parseWallTime() {
+    return parseWallTime.sum();
+  }
+
+  /** The summed CPU time spent parsing source files, in nanoseconds. */
+  public long parseCpuTime() {
+    return parseCpuTime.sum();
+  }
+
+  /** The number of items counted in a phase. */
+  public long count(Phase phase) {
+    return phaseCount[phase.ordinal()].sum();
+  }
+
+  private static Entry entry(ConcurrentMap<String, Entry> map, String name) {
+    Entry entry = map.get(name);
+    if (entry == null) {
+      Entry fresh = new Entry(name);
+      entry = map.putIfAbsent(name, fresh);
+      if (entry == null) {
+        entry = fresh;
+      }
+    }
+    return entry;
+  }
+
+  private static List<Entry> sorted(ConcurrentMap<String, Entry> map) {
+    List<Entry> list = new ArrayList<Entry>(map.values());
+    Collections.sort(list, BY_TIME);
+    return list;
+  }
+
+  /**
+   * Prints the phase totals in the plain text format of the -profile option.
+   */
+  public void printText(PrintStream out) {
+    out.println("javaParseTime: " + time(Phase.PARSE));
+    out.println("javaParseWallTime: " + parseWallTime());
+    out.println("javaParseCpuTime: " + parseCpuTime());
+    out.println("numJavaFiles: " + count(Phase.PARSE));
+    out.println("bytecodeParseTime: " + time(Phase.BYTECODE_PARSE));
+    out.println("numClassFiles: " + count(Phase.BYTECODE_PARSE));
+    out.println("errorCheckTime: " + time(Phase.ERROR_CHECK));
+    out.println("codeGenTime: " + time(Phase.CODE_GEN));
+  }
+
+  /**
+   * Prints the profile as a JSON object. All times are in nanoseconds.
+   * Compilation units and types are sorted by descending total time.
+   */
+  public void printJson(PrintStream out) {
+    out.println("{");
+    out.println("  \"phases\": {");
+    for (Phase phase : Phase.values()) {
+      out.format("    \"%s\": { \"count\": %d, \"time\": %d }%s%n", phase.label,
+          count(phase), time(phase), phase.ordinal() < NUM_PHASES - 1 ? "," : "");
+    }
+    out.println("  },");
+    out.format("  \"parse\": { \"wallTime\": %d, \"cpuTime\": %d },%n",
+        parseWallTime(), parseCpuTime());
+    out.format("  \"classPath\": { \"lookups\": %d, \"found\": %d, \"time\": %d,"
+        + " \"maxTime\": %d },%n",
+        lookups.sum(), lookupsFound.sum(), lookupTime.sum(), maxLookupTime.get());
+    printJsonEntries(out, "units", sorted(units));
+    out.println(",");
+    printJsonEntries(out, "types", sorted(types));
+    out.println();
+    out.println("}");
+  }
+
+  private static void printJsonEntries(PrintStream out, String key, List<Entry> entries) {
+    out.format("  \"%s\": [", key);
+    boolean first = true;
+    for (Entry entry : entries) {
+      out.println(first ? "" : ",");
+      first = false;
+      out.format("    { \"name\": \"%s\"", jsonString(entry.name));
+      for (Phase phase : Phase.values()) {
+        long time = entry.time.get(phase.ordinal());
+        if (time != 0) {
+          out.format(", \"%s\": %d", phase.label, time);
+        }
+      }
+      out.print(" }");
+    }
+    out.print(first ? "]" : String.format("%n  ]"));
+  }
+
+  private static String jsonString(String str) {
+    StringBuilder buf = new StringBuilder(str.length());
+    for (int i = 0; i < str.length(); ++i) {
+      char c = str.charAt(i);
+      switch (c) {
+        case '"':
+          buf.append("\\\"");
+          break;
+        case '\\':
+          buf.append("\\\\");
+          break;
+        default:
+          if (c < 0x20) {
+            buf.append(String.format("\\u%04x", (int) c));
+          } else {
+            buf.append(c);
+          }
+      }
+    }
+    return buf.toString();
+  }
+
+  /**
+   * Prints the profile in CSV format, with one row per recorded time.
+   * The columns are: kind (phase, parse, classPath, unit, or type), name, phase,
+   * count, and time in nanoseconds. The count is empty for units and types.
+   */
+  public void printCsv(PrintStream out) {
+    out.println("kind,name,phase,count,time");
+    for (Phase phase : Phase.values()) {
+      out.format("phase,,%s,%d,%d%n", phase.label, count(phase), time(phase));
+    }
+    out.format("parse,,wall,,%d%n", parseWallTime());
+    out.format("parse,,cpu,,%d%n", parseCpuTime());
+    out.format("classPath,,lookup,%d,%d%n", lookups.sum(), lookupTime.sum());
+    out.format("classPath,,found,%d,%n", lookupsFound.sum());
+    out.format("classPath,,maxLookup,,%d%n", maxLookupTime.get());
+    printCsvEntries(out, "unit", sorted(units));
+    printCsvEntries(out, "type", sorted(types));
+  }
+
+  private static void printCsvEntries(PrintStream out, String kind, List<Entry> entries) {
+    for (Entry entry : entries) {
+      for (Phase phase : Phase.values()) {
+        long time = entry.time.get(phase.ordinal());
+        if (time != 0) {
+          out.format("%s,%s,%s,,%d%n", kind, csvString(entry.name), phase.label, time);
+        }
+      }
+    }
+  }
+
+  private static String csvString(String str) {
+    if (str.indexOf(',') < 0 && str.indexOf('"') < 0 && str.indexOf('\n') < 0) {
+      return str;
+    }
+    return "\"" + str.replace("\"", "\"\"") + "\"";
+  }
+}
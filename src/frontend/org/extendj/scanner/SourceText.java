@@ -0,0 +1,230 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.scanner;
+
+import java.io.CharArrayReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * The complete text of a source file, decoded into a single character array
+ * with Unicode escapes translated.
+ *
+ * <p>The source file is decoded in one pass. Unicode escapes are translated
+ * by a {@link UnicodeEscapeReader} only if the text contains a backslash
+ * followed by {@code u}, which is rare in Java source files.
+ *
+ * <p>A source text can be read like any other reader. The scanners generated
+ * by JFlex instead use the character array of the source text directly as
+ * their input buffer, so the text is not copied again while scanning.
+ */
+public class SourceText extends Reader {
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  private static final char[] EMPTY = new char[0];
+
+  private char[] buffer;
+  private final int length;
+  private int pos = 0;
+
+  /**
+   * @param buffer the characters of the source text. The array must be
+   * longer than the text.
+   * @param length the number of characters in the source text
+   */
+  private SourceText(char[] buffer, int length) {
+    this.buffer = buffer;
+    this.length = length;
+  }
+
+  /**
+   * Reads and decodes the complete UTF-8 input stream, and translates Unicode
+   * escapes. The input stream is not closed.
+   */
+  public static SourceText read(InputStream in) throws IOException {
+    ByteBuffer bytes = ByteBuffer.wrap(readBytes(in));
+    // UTF-8 never decodes to more characters than bytes. One extra character
+    // is reserved so that the scanner buffer is never full.
+    char[] chars = new char[bytes.remaining() + 1];
+    CharBuffer out = CharBuffer.wrap(chars);
+    CharsetDecoder decoder = UTF8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    decoder.decode(bytes, out, true);
+    decoder.flush(out);
+    return translateEscapes(chars, out.position());
+  }
+
+  /**
+   * Reads the complete text of the reader, and translates Unicode escapes.
+   * The reader is not closed.
+   */
+  public static SourceText read(Reader in) throws IOException {
+    char[] chars = new char[4096];
+    int length = 0;
+    while (true) {
+      if (length == chars.length - 1) {
+        chars = Arrays.copyOf(chars, chars.length * 2);
+      }
+      int count = in.read(chars, length, chars.length - 1 - length);
+      if (count < 0) {
+        break;
+      }
+      length += count;
+    }
+    return translateEscapes(chars, length);
+  }
+
+  private static byte[] readBytes(InputStream in) throws IOException {
+    if (in instanceof FileInputStream) {
+      // The file size is known, so the file can be read in a single call.
+      FileChannel channel = ((FileInputStream) in).getChannel();
+      long size = channel.size() - channel.position();
+      if (size < Integer.MAX_VALUE) {
+        ByteBuffer bytes = ByteBuffer.allocate((int) size);
+        while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+          // Continue reading until the buffer is full or the file ends.
+        }
+        if (!bytes.hasRemaining() && channel.position() == channel.size()) {
+          return bytes.array();
+        }
+        // The file changed size while reading. Read the remaining bytes.
+        return readRemaining(in, bytes.array(), bytes.position());
+      }
+    }
+    return readRemaining(in, new byte[8192], 0);
+  }
+
+  private static byte[] readRemaining(InputStream in, byte[] bytes, int length)
+      throws IOException {
+    while (true) {
+      if (length == bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, 8192));
+      }
+      int count = in.read(bytes, length, bytes.length - length);
+      if (count < 0) {
+        return Arrays.copyOf(bytes, length);
+      }
+      length += count;
+    }
+  }
+
+  /**
+   * Translates the Unicode escapes in the text, if it contains any.
+   */
+  private static SourceText translateEscapes(char[] chars, int length) throws IOException {
+    for (int i = 0; i < length - 1; ++i) {
+      if (chars[i] == '\\' && chars[i + 1] == 'u') {
+        // Unicode escapes are only shorter than the characters they replace.
+        UnicodeEscapeReader reader =
+            new UnicodeEscapeReader(new CharArrayReader(chars, 0, length));
+        char[] translated = new char[length + 1];
+        int size = 0;
+        while (size < length) {
+          int count = reader.read(translated, size, length - size);
+          if (count < 0) {
+            break;
+          }
+          size += count;
+        }
+        return new SourceText(translated, size);
+      }
+    }
+    return new SourceText(chars, length);
+  }
+
+  /** The number of characters in the source text. */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Transfers the unread characters of this source text to a scanner.
+   *
+   * <p>The returned array holds the unread characters starting at index zero,
+   * followed by at least one unused element. The number of characters is
+   * given by {@link #remaining()} before the transfer. The scanner takes
+   * ownership of the array, and this source text is at the end of input
+   * afterwards.
+   *
+   * @return the character array holding the unread characters
+   */
+  public char[] transferBuffer() {
+    char[] result = buffer;
+    if (pos > 0) {
+      System.arraycopy(result, pos, result, 0, length - pos);
+    }
+    buffer = EMPTY;
+    pos = length;
+    return result;
+  }
+
+  /** The number of unread characters in this source text. */
+  public int remaining() {
+    return length - pos;
+  }
+
+  @Override
+  public int read() {
+    return pos < length ? buffer[pos++] : -1;
+  }
+
+  @Override
+  public int read(char[] cbuf, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (pos >= length) {
+      return -1;
+    }
+    int count = Math.min(len, length - pos);
+    System.arraycopy(buffer, pos, cbuf, off, count);
+    pos += count;
+    return count;
+  }
+
+  @Override
+  public boolean ready() {
+    return true;
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,230 @@
+/* Copyright (c) 2026, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.ast;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Attribute profiler based on JastAdd attribute tracing.
+ *
+ * <p>For each attribute this records the number of evaluations, the number of
+ * cache hits, the number of fixpoint computations started by the attribute,
+ * the number of circular iterations, and the self time. The self time of an
+ * evaluation excludes the time spent evaluating other attributes, except for
+ * cached lookups and attributes without tracing.
+ *
+ * <p>This class is only compiled when ExtendJ is built with attribute tracing
+ * (the profileAttributes Gradle property).
+ */
+public class TraceAttributeProfiler implements AttributeProfiler, ASTState.Trace.Receiver {
+  /** Statistics for one attribute. */
+  private static class Stats {
+    final String attribute;
+    final AtomicLong evaluations = new AtomicLong();
+    final AtomicLong cacheHits = new AtomicLong();
+    final AtomicLong fixpoints = new AtomicLong();
+    final AtomicLong iterations = new AtomicLong();
+    final AtomicLong selfTime = new AtomicLong();
+
+    Stats(String attribute) {
+      this.attribute = attribute;
+    }
+  }
+
+  /** An attribute evaluation in progress. */
+  private static class Frame {
+    final ASTNode node;
+    final Stats stats;
+    final long start;
+    long childTime = 0;
+
+    Frame(ASTNode node, Stats stats, long start) {
+      this.node = node;
+      this.stats = stats;
+      this.start = start;
+    }
+  }
+
+  /** A fixpoint computation in progress. */
+  private static class Fixpoint {
+    final ASTNode node;
+    final Stats stats;
+
+    Fixpoint(ASTNode node, Stats stats) {
+      this.node = node;
+      this.stats = stats;
+    }
+  }
+
+  /** Evaluation stacks of the current thread. */
+  private static class Stacks {
+    final ArrayList<Frame> frames = new ArrayList<Frame>();
+    final ArrayList<Fixpoint> fixpoints = new ArrayList<Fixpoint>();
+  }
+
+  private final ConcurrentMap<String, Stats> stats = new ConcurrentHashMap<String, Stats>();
+
+  private final ThreadLocal<Stacks> stacks = new ThreadLocal<Stacks>() {
+    @Override
+    protected Stacks initialValue() {
+      return new Stacks();
+    }
+  };
+
+  @Override
+  public void start(Program program) {
+    program.trace().setReceiver(this);
+  }
+
+  @Override
+  public void accept(ASTState.Trace.Event event, ASTNode node, String attribute,
+      Object params, Object value) {
+    switch (event) {
+      case COMPUTE_BEGIN:
+        computeBegin(node, stats(attribute));
+        break;
+      case COMPUTE_END:
+        computeEnd(node, stats(attribute));
+        break;
+      case CACHE_READ:
+        stats(attribute).cacheHits.incrementAndGet();
+        break;
+      case CIRCULAR_CASE1_START: {
+        Stats attr = stats(attribute);
+        attr.fixpoints.incrementAndGet();
+        stacks.get().fixpoints.add(new Fixpoint(node, attr));
+        break;
+      }
+      case CIRCULAR_CASE1_RETURN: {
+        ArrayList<Fixpoint> fixpoints = stacks.get().fixpoints;
+        if (!fixpoints.isEmpty()) {
+          fixpoints.remove(fixpoints.size() - 1);
+        }
+        break;
+      }
+      case CIRCULAR_CASE2_START:
+        stats(attribute).iterations.incrementAndGet();
+        break;
+      default:
+        // Other events are not profiled.
+    }
+  }
+
+  private Stats stats(String attribute) {
+    Stats result = stats.get(attribute);
+    if (result == null) {
+      Stats fresh = new Stats(attribute);
+      result = stats.putIfAbsent(attribute, fresh);
+      if (result == null) {
+        result = fresh;
+      }
+    }
+    return result;
+  }
+
+  private void computeBegin(ASTNode node, Stats attr) {
+    Stacks current = stacks.get();
+    attr.evaluations.incrementAndGet();
+    ArrayList<Fixpoint> fixpoints = current.fixpoints;
+    if (!fixpoints.isEmpty()) {
+      Fixpoint top = fixpoints.get(fixpoints.size() - 1);
+      if (top.node == node && top.stats == attr) {
+        // One iteration of the fixpoint loop.
+        attr.iterations.incrementAndGet();
+      }
+    }
+    current.frames.add(new Frame(node, attr, System.nanoTime()));
+  }
+
+  private void computeEnd(ASTNode node, Stats attr) {
+    long now = System.nanoTime();
+    ArrayList<Frame> frames = stacks.get().frames;
+    // Frames above the matching frame were left by evaluations that threw an
+    // exception. Their time is included in the matching frame.
+    int index = frames.size() - 1;
+    while (index >= 0 && (frames.get(index).node != node || frames.get(index).stats != attr)) {
+      index -= 1;
+    }
+    if (index < 0) {
+      return;
+    }
+    Frame frame = frames.get(index);
+    while (frames.size() > index) {
+      frames.remove(frames.size() - 1);
+    }
+    long time = now - frame.start;
+    attr.selfTime.addAndGet(time - frame.childTime);
+    if (index > 0) {
+      frames.get(index - 1).childTime += time;
+    }
+  }
+
+  @Override
+  public void printReport(PrintStream out) {
+    List<Stats> list = new ArrayList<Stats>(stats.values());
+    Collections.sort(list, new Comparator<Stats>() {
+      @Override
+      public int compare(Stats a, Stats b) {
+        long ta = a.selfTime.get();
+        long tb = b.selfTime.get();
+        if (ta != tb) {
+          return ta > tb ? -1 : 1;
+        }
+        return a.attribute.compareTo(b.attribute);
+      }
+    });
+    long total = 0;
+    for (Stats attr : list) {
+      total += attr.selfTime.get();
+    }
+    out.format("Attribute evaluation profile (%d attributes, %.1f ms self time):%n",
+        list.size(), total / 1e6);
+    out.format("%10s %6s %10s %10s %9s %10s  %s%n", "self ms", "self %", "evals",
+        "cache hits", "fixpoints", "iterations", "attribute");
+    for (Stats attr : list) {
+      long self = attr.selfTime.get();
+      out.format("%10.1f %6.1f %10d %10d %9d %10d  %s%n",
+          self / 1e6,
+          total == 0 ? 0.0 : 100.0 * self / total,
+          attr.evaluations.get(),
+          attr.cacheHits.get(),
+          attr.fixpoints.get(),
+          attr.iterations.get(),
+          attr.attribute);
+    }
+  }
+}